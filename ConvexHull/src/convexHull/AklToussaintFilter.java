@@ -0,0 +1,109 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Akl-Toussaint heuristic.  The extreme points in the eight directions -y, x - y, x, x + y, y,
+ * -x + y, -x and -x - y are vertices of the convex hull and, taken in this order, form a convex
+ * octagon in counterclockwise order.  A point strictly inside the octagon is strictly inside the
+ * hull, so it can be discarded before the points are sorted.  Points on the boundary of the
+ * octagon are kept, so no engine loses a hull vertex or a collinear boundary point.
+ *
+ */
+public class AklToussaintFilter
+{
+	// the eight directions in counterclockwise order, starting straight down
+	private static final int[] DX = { 0, 1, 1, 1, 0, -1, -1, -1 };
+	private static final int[] DY = { -1, -1, 0, 1, 1, 1, 0, -1 };
+
+
+	/**
+	 * Removes from pts all points strictly inside the octagon of its extreme points, compacting
+	 * the remaining points in place.  Their relative order is kept.
+	 *
+	 * @param pts
+	 * @return number of points removed
+	 */
+	public static int filter(PointStore pts)
+	{
+		int n = pts.size();
+		if (n < 3)
+			return 0;
+
+		// octagon vertices; among points tying in a direction, the most clockwise one is taken
+		// so that the vertices stay in counterclockwise order along a flat edge of the hull
+		int[] ox = new int[8];
+		int[] oy = new int[8];
+		for (int d = 0; d < 8; d++)
+		{
+			ox[d] = pts.getX(0);
+			oy[d] = pts.getY(0);
+		}
+		for (int i = 1; i < n; i++)
+		{
+			int x = pts.getX(i);
+			int y = pts.getY(i);
+			for (int d = 0; d < 8; d++)
+			{
+				long value = (long) DX[d] * x + (long) DY[d] * y;
+				long best = (long) DX[d] * ox[d] + (long) DY[d] * oy[d];
+				if (value > best || (value == best && (long) -DY[d] * x + (long) DX[d] * y < (long) -DY[d] * ox[d] + (long) DX[d] * oy[d]))
+				{
+					ox[d] = x;
+					oy[d] = y;
+				}
+			}
+		}
+
+		// drop repeated vertices
+		int size = 0;
+		for (int d = 0; d < 8; d++)
+		{
+			if (size == 0 || ox[d] != ox[size - 1] || oy[d] != oy[size - 1])
+			{
+				ox[size] = ox[d];
+				oy[size] = oy[d];
+				size++;
+			}
+		}
+		while (size > 1 && ox[size - 1] == ox[0] && oy[size - 1] == oy[0])
+			size--;
+		if (size < 3)
+			return 0;
+
+		int kept = 0;
+		for (int i = 0; i < n; i++)
+		{
+			int x = pts.getX(i);
+			int y = pts.getY(i);
+			if (!strictlyInside(ox, oy, size, x, y))
+			{
+				pts.set(kept, x, y);
+				kept++;
+			}
+		}
+		pts.truncate(kept);
+		return n - kept;
+	}
+
+
+	/**
+	 * @return true if (x, y) lies strictly to the left of every edge of the convex polygon with
+	 *         the given vertices in counterclockwise order
+	 */
+	private static boolean strictlyInside(int[] ox, int[] oy, int size, int x, int y)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			int j = (i + 1) % size;
+			if (PolarAngleComparator.crossProduct(ox[i], oy[i], ox[j], oy[j], x, y) <= 0)
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,262 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+
+/**
+ *
+ * Binary file format for points, as an alternative to whitespace separated text.  All numbers are
+ * little-endian.  The file starts with a header of HEADER_SIZE bytes:
+ *
+ *     bytes  0 -  3   the magic number 0x89 'C' 'H' 'P', which no text file of points starts with
+ *     bytes  4 -  7   coordinate width in bytes, an int; always 4
+ *     bytes  8 - 15   number of points, a long
+ *
+ * followed by the x- and y-coordinate of every point as a pair of ints.
+ *
+ * read() memory-maps the file and copies the coordinates straight into a PointStore, or feeds
+ * them to any other PointSink.
+ *
+ */
+public class BinaryPointFile
+{
+	public static final int HEADER_SIZE = 16;
+
+	private static final byte[] MAGIC = { (byte) 0x89, 'C', 'H', 'P' };
+
+	private static final int COORDINATE_WIDTH = Integer.BYTES;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private static final int MAX_STORE_SIZE = Integer.MAX_VALUE - 8;   // largest array the JVM allocates
+
+
+	/**
+	 * @param  fileName
+	 * @return true if the file exists and starts with the magic number of the format
+	 */
+	public static boolean isBinary(String fileName)
+	{
+		File file = new File(fileName);
+		if (!file.isFile() || file.length() < MAGIC.length)
+			return false;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+			while (magic.hasRemaining() && channel.read(magic) > 0)
+			{
+			}
+			for (int i = 0; i < MAGIC.length; i++)
+			{
+				if (magic.get(i) != MAGIC[i])
+					return false;
+			}
+			return true;
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+
+	/**
+	 * Reads the points of a binary point file.
+	 *
+	 * @param  fileName
+	 * @return the points, in the order of the file
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   if the file is not in the format, has a coordinate width
+	 *                                  other than 4, is shorter than its header says, or holds
+	 *                                  more points than a PointStore can
+	 */
+	public static PointStore read(String fileName) throws FileNotFoundException, InputMismatchException
+	{
+		try (FileChannel channel = open(fileName))
+		{
+			long count = readHeader(channel);
+			if (count > MAX_STORE_SIZE)
+				throw new InputMismatchException("too many points for a PointStore: " + count);
+			// the header gives the size, so the store never has to grow
+			PointStore store = new PointStore((int) count);
+			readPoints(channel, count, store);
+			return store;
+		}
+		catch (FileNotFoundException e)
+		{
+			throw e;
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * Same as read(String), but feeds the points to sink one at a time, in the order of the file.
+	 *
+	 * @param  fileName
+	 * @param  sink
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   if the file is not in the format, has a coordinate width
+	 *                                  other than 4, or is shorter than its header says
+	 */
+	public static void read(String fileName, PointSink sink) throws FileNotFoundException, InputMismatchException
+	{
+		try (FileChannel channel = open(fileName))
+		{
+			readPoints(channel, readHeader(channel), sink);
+		}
+		catch (FileNotFoundException e)
+		{
+			throw e;
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * @return channel for reading the file
+	 * @throws FileNotFoundException  if the file does not exist
+	 */
+	private static FileChannel open(String fileName) throws FileNotFoundException, IOException
+	{
+		File file = new File(fileName);
+		if (!file.isFile())
+			throw new FileNotFoundException(fileName);
+		return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+	}
+
+
+	/**
+	 * Checks the header and the size of the file.
+	 *
+	 * @return number of points in the file
+	 * @throws InputMismatchException  if the file is not in the format, has a coordinate width
+	 *                                 other than 4, or is shorter than its header says
+	 */
+	private static long readHeader(FileChannel channel) throws IOException, InputMismatchException
+	{
+		long size = channel.size();
+		if (size < HEADER_SIZE)
+			throw new InputMismatchException("binary point file has no header");
+		ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = 0; i < MAGIC.length; i++)
+		{
+			if (header.get(i) != MAGIC[i])
+				throw new InputMismatchException("not a binary point file");
+		}
+		if (header.getInt(4) != COORDINATE_WIDTH)
+			throw new InputMismatchException("unsupported coordinate width " + header.getInt(4));
+		long count = header.getLong(8);
+		if (count < 0 || count > (Long.MAX_VALUE - HEADER_SIZE) / (2 * COORDINATE_WIDTH))
+			throw new InputMismatchException("unsupported number of points " + count);
+		if (size < HEADER_SIZE + count * 2 * COORDINATE_WIDTH)
+			throw new InputMismatchException("binary point file is truncated");
+		return count;
+	}
+
+
+	/**
+	 * Feeds the count points after the header to sink, in the order of the file.
+	 */
+	private static void readPoints(FileChannel channel, long count, PointSink sink) throws IOException
+	{
+		long offset = HEADER_SIZE;
+		long left = count;
+		while (left > 0)
+		{
+			// map at most Integer.MAX_VALUE bytes at a time
+			int chunk = (int) Math.min(left, Integer.MAX_VALUE / (2 * COORDINATE_WIDTH));
+			IntBuffer coordinates = channel.map(FileChannel.MapMode.READ_ONLY, offset, (long) chunk * 2 * COORDINATE_WIDTH)
+			                               .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			for (int i = 0; i < chunk; i++)
+			{
+				sink.add(coordinates.get(2 * i), coordinates.get(2 * i + 1));
+			}
+			offset += (long) chunk * 2 * COORDINATE_WIDTH;
+			left -= chunk;
+		}
+	}
+
+
+	/**
+	 * Writes the points to a binary point file, replacing it if it exists.
+	 *
+	 * @param  pts
+	 * @param  fileName
+	 * @throws FileNotFoundException  if the file cannot be created
+	 */
+	public static void write(Point[] pts, String fileName) throws FileNotFoundException
+	{
+		write(new PointStore(pts), fileName);
+	}
+
+
+	/**
+	 * Same as write(Point[], String) for points stored in a PointStore.
+	 *
+	 * @param  pts
+	 * @param  fileName
+	 * @throws FileNotFoundException  if the file cannot be created
+	 */
+	public static void write(PointStore pts, String fileName) throws FileNotFoundException
+	{
+		try (FileOutputStream out = new FileOutputStream(fileName); FileChannel channel = out.getChannel())
+		{
+			ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buf.put(MAGIC);
+			buf.putInt(COORDINATE_WIDTH);
+			buf.putLong(pts.size());
+			for (int i = 0; i < pts.size(); i++)
+			{
+				if (buf.remaining() < 2 * COORDINATE_WIDTH)
+					flush(buf, channel);
+				buf.putInt(pts.getX(i));
+				buf.putInt(pts.getY(i));
+			}
+			flush(buf, channel);
+		}
+		catch (FileNotFoundException e)
+		{
+			throw e;
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * Writes out the contents of buf and clears it.
+	 */
+	private static void flush(ByteBuffer buf, FileChannel channel) throws IOException
+	{
+		buf.flip();
+		while (buf.hasRemaining())
+		{
+			channel.write(buf);
+		}
+		buf.clear();
+	}
+}
@@ -0,0 +1,323 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.FileNotFoundException;
+import java.util.InputMismatchException;
+
+/**
+ *
+ * Chan's output-sensitive algorithm, which runs in O(n log h) time for a hull of h vertices.
+ *
+ * For a guess m of the hull size, pointsNoDuplicate is split into groups of m consecutive points
+ * and the convex hull of every group (a mini hull) is computed.  Jarvis' march is then carried out
+ * over the mini hulls: from the current vertex, the best candidate of every mini hull is found by a
+ * binary search for its tangent, and the best of those candidates is the next vertex.  If the hull
+ * does not close within m steps, m is squared and the process repeated.
+ *
+ * Since pointsNoDuplicate is sorted bottom-up, every group is a sorted slice and its mini hull is
+ * built by MonotoneChain.chainHull() in linear time, without a polar angle sort per group.
+ *
+ */
+public class ChanHull extends ConvexHull
+{
+	private int[] miniHulls;    // vertices of all mini hulls, as indices into pointsNoDuplicate
+	private int[] hullStart;    // mini hull g occupies miniHulls[hullStart[g]] ... miniHulls[hullStart[g+1] - 1]
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public ChanHull(Point[] pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as ChanHull(Point[]), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public ChanHull(Point[] pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Chan's algorithm";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public ChanHull(PointStore pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as ChanHull(PointStore), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public ChanHull(PointStore pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Chan's algorithm";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public ChanHull(String inputFileName) throws FileNotFoundException, InputMismatchException
+	{
+		this(inputFileName, new HullOptions());
+	}
+
+
+	/**
+	 * Same as ChanHull(String), with the given options instead of the defaults.
+	 *
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public ChanHull(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options);
+		algorithm = "Chan's algorithm";
+	}
+
+
+	// ----------------
+	// Chan's algorithm
+	// ----------------
+
+	/**
+	 * Try the group sizes m = 2^(2^t), t = 1, 2, ..., capped at the number of points, until
+	 * wrap() closes the hull within m steps.  The vertices are stored in hullVertices[] in
+	 * counterclockwise order starting at lowestPoint.  Collinear points are left out of the hull.
+	 *
+     * Two degenerate cases below must be handled:
+     *
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
+     *        hull is the point itself.
+     *
+     *     2) The array contains only collinear points, in which case the hull is the line segment
+     *        connecting the two extreme points.
+	 */
+	public void constructHull()
+	{
+		long startTime = System.nanoTime();
+		int n = pointsNoDuplicate.size();
+		if (n == 1)
+		{
+			hullVertices = new Point[1];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
+			time = System.nanoTime() - startTime;
+			return;
+		}
+
+		int[] vertices = null;
+		for (int t = 1; vertices == null; t++)
+		{
+			int m = t >= 5 ? n : (int) Math.min(n, 1L << (1 << t));
+			buildMiniHulls(m);
+			vertices = wrap(m);
+		}
+
+		hullVertices = new Point[vertices.length];
+		for (int i = 0; i < vertices.length; i++)
+		{
+			hullVertices[i] = pointsNoDuplicate.toPoint(vertices[i]);
+		}
+		long endTime = System.nanoTime();
+		this.time = endTime - startTime;
+	}
+
+
+	/**
+	 * Split pointsNoDuplicate into groups of m consecutive points and store the convex hull of
+	 * every group in miniHulls[].
+	 *
+	 * @param m  group size
+	 */
+	private void buildMiniHulls(int m)
+	{
+		int n = pointsNoDuplicate.size();
+		int groups = (n + m - 1) / m;
+		int[] buffer = new int[2 * n];
+		hullStart = new int[groups + 1];
+		int size = 0;
+		for (int g = 0; g < groups; g++)
+		{
+			hullStart[g] = size;
+			size += MonotoneChain.chainHull(pointsNoDuplicate, g * m, Math.min(n, (g + 1) * m), buffer, size);
+		}
+		hullStart[groups] = size;
+		miniHulls = buffer;
+	}
+
+
+	/**
+	 * Jarvis' march over the mini hulls, starting at lowestPoint, which is the first vertex of the
+	 * first mini hull.  The current vertex is tracked by its position in miniHulls[] so that the
+	 * mini hull it belongs to simply contributes its successor.
+	 *
+	 * @param m  maximum number of hull vertices to find
+	 * @return   indices of the hull vertices in counterclockwise order, or null if the hull has
+	 *           more than m vertices
+	 */
+	private int[] wrap(int m)
+	{
+		int groups = hullStart.length - 1;
+		int[] vertices = new int[m];
+		int current = 0;     // position of the current vertex in miniHulls[]
+		int count = 0;
+		do
+		{
+			if (count == m)
+				return null;
+			int v = miniHulls[current];
+			vertices[count++] = v;
+			PolarAngleComparator comp = new PolarAngleComparator(pointsNoDuplicate.getX(v), pointsNoDuplicate.getY(v), false);
+
+			int best = -1;
+			for (int g = 0; g < groups; g++)
+			{
+				int start = hullStart[g];
+				int size = hullStart[g + 1] - start;
+				int candidate;
+				if (current >= start && current < start + size)
+				{
+					if (size == 1)
+						continue;
+					candidate = start + (current - start + 1) % size;
+				}
+				else
+				{
+					candidate = start + tangent(v, start, size);
+				}
+				if (best == -1 || comp.compare(getX(candidate), getY(candidate), getX(best), getY(best)) < 0)
+					best = candidate;
+			}
+			current = best;
+		}
+		while (current != 0);
+
+		int[] result = new int[count];
+		System.arraycopy(vertices, 0, result, 0, count);
+		return result;
+	}
+
+
+	/**
+	 * Binary search over the mini hull miniHulls[start] ... miniHulls[start + size - 1] for the
+	 * vertex with the smallest polar angle with respect to the point with index v, which lies
+	 * outside the mini hull.  Seen from v, the polar angles of the vertices in counterclockwise
+	 * order decrease to that vertex and then increase again, so the search looks for a local
+	 * minimum of a cyclic unimodal sequence.  When two vertices tie, the one further from v
+	 * is chosen, as with PolarAngleComparator(v, false).
+	 *
+	 * @return position of the vertex within the mini hull
+	 */
+	private int tangent(int v, int start, int size)
+	{
+		if (size <= 3)
+		{
+			PolarAngleComparator comp = new PolarAngleComparator(pointsNoDuplicate.getX(v), pointsNoDuplicate.getY(v), false);
+			int best = 0;
+			for (int i = 1; i < size; i++)
+			{
+				if (comp.compare(getX(start + i), getY(start + i), getX(start + best), getY(start + best)) < 0)
+					best = i;
+			}
+			return best;
+		}
+
+		int lo = 0;
+		int hi = size;
+		int result = -1;
+		if (isMinimum(v, start, size, 0))
+			result = 0;
+		while (result == -1 && lo + 1 < hi)
+		{
+			int mid = (lo + hi) / 2;
+			if (isMinimum(v, start, size, mid))
+			{
+				result = mid;
+			}
+			else
+			{
+				int loSide = angleSign(v, start, size, lo + 1, lo);
+				int midSide = angleSign(v, start, size, mid + 1, mid);
+				if (loSide < midSide || (loSide == midSide && loSide == angleSign(v, start, size, lo, mid)))
+					hi = mid;
+				else
+					lo = mid;
+			}
+		}
+		if (result == -1)
+			result = lo;
+
+		// on a tie the search stops at the vertex closer to v; its successor is further away
+		if (angleSign(v, start, size, result + 1, result) == 0)
+			result = (result + 1) % size;
+		return result;
+	}
+
+
+	/**
+	 * @return true if the polar angle of vertex i is no greater than that of vertex i + 1 and
+	 *         less than that of vertex i - 1, all with respect to the point with index v
+	 */
+	private boolean isMinimum(int v, int start, int size, int i)
+	{
+		return angleSign(v, start, size, i + 1, i) >= 0 && angleSign(v, start, size, i, i - 1 + size) < 0;
+	}
+
+
+	/**
+	 * Compares the polar angles of two vertices of a mini hull with respect to the point with
+	 * index v.  Vertex positions are taken modulo size.
+	 *
+	 * @return the sign of the polar angle of vertex i minus that of vertex j
+	 */
+	private int angleSign(int v, int start, int size, int i, int j)
+	{
+		int a = start + i % size;
+		int b = start + j % size;
+		long cross = PolarAngleComparator.crossProduct(pointsNoDuplicate.getX(v), pointsNoDuplicate.getY(v),
+		                                               getX(b), getY(b), getX(a), getY(a));
+		return Long.signum(cross);
+	}
+
+
+	private int getX(int position)
+	{
+		return pointsNoDuplicate.getX(miniHulls[position]);
+	}
+
+	private int getY(int position)
+	{
+		return pointsNoDuplicate.getY(miniHulls[position]);
+	}
+}
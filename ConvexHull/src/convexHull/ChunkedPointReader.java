@@ -0,0 +1,319 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ *
+ * Reads an input file of points in parallel and keeps only the points on the boundary of their
+ * convex hull.
+ *
+ * The file is split into byte ranges of about chunkSize bytes, each moved forward to start right
+ * after whitespace so that no integer is cut in two.  Every range is handled by its own task on a
+ * ForkJoinPool, which maps it into memory, parses it and computes the convex hull of its points.
+ * Since a range does not know whether its first integer is an x- or a y-coordinate until the
+ * ranges before it are counted, the task builds the hull for both cases.  The hulls of the right
+ * case are then merged with HullMerge.merge(), together with the points that straddle two ranges.
+ * At no time are all the points in memory: only one range per running task, and the partial
+ * hulls.
+ *
+ * The partial hulls and their merge keep the points that lie on an edge of the hull between two
+ * vertices, since GrahamScan reports some of those.  An engine constructed from the result then
+ * gives the same hullVertices[] as from all the points of the file.
+ *
+ * The integers read are those that a Scanner with hasNextInt() / nextInt() would read (see
+ * IntTokenizer): reading stops at the first token that is not an integer, and an odd number of
+ * integers up to there raises an InputMismatchException, as does an integer up to there that is
+ * out of range (see ConvexHull.MAX_COORDINATE).
+ *
+ */
+public class ChunkedPointReader
+{
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+	private String inputFileName;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;   // bytes per range
+
+	private long pointCount = -1;                 // number of points read; -1 before read()
+
+
+	/**
+	 * @param inputFileName
+	 */
+	public ChunkedPointReader(String inputFileName)
+	{
+		this.inputFileName = inputFileName;
+	}
+
+
+	/**
+	 * Split the file into ranges of about chunkSize bytes.
+	 *
+	 * @param chunkSize
+	 * @throws IllegalArgumentException  if chunkSize < 1
+	 */
+	public void setChunkSize(int chunkSize) throws IllegalArgumentException
+	{
+		if (chunkSize < 1)
+			throw new IllegalArgumentException("chunk size must be positive");
+		this.chunkSize = chunkSize;
+	}
+
+
+	/**
+	 * @return number of points in the file, duplicates included, as found by the last read()
+	 */
+	public long getPointCount()
+	{
+		return pointCount;
+	}
+
+
+	/**
+	 * Reads the file on the given pool.
+	 *
+	 * @param  pool
+	 * @return points on the boundary of the convex hull of the points in the file, collinear
+	 *         ones included, counterclockwise from the lowest one; empty if the file has no points
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers, or
+	 *                                  a coordinate out of range
+	 */
+	public PointStore read(ForkJoinPool pool) throws FileNotFoundException, InputMismatchException
+	{
+		File file = new File(inputFileName);
+		if (!file.isFile())
+			throw new FileNotFoundException(inputFileName);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			long[] starts = rangeStarts(channel);
+			List<RangeTask> tasks = new ArrayList<RangeTask>();
+			for (int i = 0; i + 1 < starts.length; i++)
+			{
+				if (starts[i] < starts[i + 1])
+					tasks.add(new RangeTask(channel, starts[i], (int) (starts[i + 1] - starts[i])));
+			}
+			pool.invoke(new RecursiveTask<Void>()
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected Void compute()
+				{
+					invokeAll(tasks);
+					return null;
+				}
+			});
+			return combine(tasks);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * Picks the hull of every range for the parity of its first integer, and merges them with
+	 * the points that straddle two ranges.
+	 */
+	private PointStore combine(List<RangeTask> tasks) throws InputMismatchException
+	{
+		List<PointStore> hulls = new ArrayList<PointStore>();
+		PointStore straddling = new PointStore();
+		long count = 0;
+		boolean pending = false;   // whether the last integer so far is an x-coordinate
+		int pendingX = 0;
+		for (RangeTask task : tasks)
+		{
+			Range r = task.join();
+			if (r.count > 0)
+			{
+				if (r.outOfRange)
+					throw new InputMismatchException("coordinate out of range: " + r.badValue);
+				int p = pending ? 1 : 0;
+				if (pending)
+					straddling.add(pendingX, r.first);
+				hulls.add(r.hulls[p]);
+				pending = (r.count - p) % 2 == 1;
+				pendingX = r.last;
+				count += r.count;
+			}
+			if (r.stopped)
+				break;
+		}
+		if (pending)
+			throw new InputMismatchException("input file contains an odd number of integers");
+		pointCount = count / 2;
+		hulls.add(hull(straddling));
+		return HullMerge.merge(hulls.toArray(new PointStore[hulls.size()]), true);
+	}
+
+
+	/**
+	 * @return start offsets of the ranges, each at the start of the file or right after a
+	 *         whitespace byte, followed by the size of the file
+	 */
+	private long[] rangeStarts(FileChannel channel) throws IOException
+	{
+		long size = channel.size();
+		int ranges = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+		long[] starts = new long[ranges + 1];
+		ByteBuffer probe = ByteBuffer.allocate(256);
+		for (int i = 1; i < ranges; i++)
+		{
+			long p = Math.max((long) i * chunkSize, starts[i - 1]);
+			starts[i] = afterWhitespace(channel, p - 1, size, probe);
+		}
+		starts[ranges] = size;
+		return starts;
+	}
+
+
+	/**
+	 * @return offset right after the first whitespace byte at or after offset, or size if there
+	 *         is none
+	 */
+	private static long afterWhitespace(FileChannel channel, long offset, long size, ByteBuffer probe) throws IOException
+	{
+		while (offset < size)
+		{
+			probe.clear();
+			int n = channel.read(probe, offset);
+			if (n <= 0)
+				break;
+			for (int i = 0; i < n; i++)
+			{
+				if (IntTokenizer.isWhitespace(probe.get(i)))
+					return offset + i + 1;
+			}
+			offset += n;
+		}
+		return size;
+	}
+
+
+	/**
+	 * @return points on the boundary of the convex hull of pts, collinear ones included,
+	 *         counterclockwise from the lowest point; pts is sorted and its duplicates removed
+	 */
+	private static PointStore hull(PointStore pts)
+	{
+		RadixSortPoints.sortUnique(pts);
+		int n = pts.size();
+		PointStore hull = new PointStore();
+		if (n == 0)
+			return hull;
+		int[] chain = new int[2 * n];
+		int count = MonotoneChain.chainHull(pts, 0, n, chain, 0, true);
+		for (int i = 0; i < count; i++)
+		{
+			hull.add(pts.getX(chain[i]), pts.getY(chain[i]));
+		}
+		return hull;
+	}
+
+
+	/**
+	 * What a task found in its range.
+	 */
+	private static class Range
+	{
+		private long count;         // number of integers read
+		private int first;          // first and last integer, if count > 0
+		private int last;
+		private boolean stopped;    // true if reading stopped at a token that is not an integer
+		private boolean outOfRange; // true if an integer exceeds MAX_COORDINATE in absolute value
+		private int badValue;       // the first such integer; the hulls are then not built
+
+		// hulls[p] is the hull, with collinear boundary points, of the points formed by the
+		// integers from index p on, paired up, leaving out a last unpaired integer
+		private PointStore[] hulls = new PointStore[2];
+	}
+
+
+	/**
+	 * Reads and parses a range of the file.
+	 */
+	private static class RangeTask extends RecursiveTask<Range>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private FileChannel channel;
+		private long offset;
+		private int length;
+
+		RangeTask(FileChannel channel, long offset, int length)
+		{
+			this.channel = channel;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		protected Range compute()
+		{
+			ByteBuffer buf;
+			try
+			{
+				buf = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+
+			IntTokenizer input = new IntTokenizer(buf, 0, length);
+			IntStack ints = new IntStack(length / 4 + 1);
+			while (input.hasNextInt())
+			{
+				ints.push(input.nextInt());
+			}
+			Range r = new Range();
+			r.stopped = input.hasNext();
+			r.count = ints.size();
+			int[] values = ints.toArray();
+			if (values.length > 0)
+			{
+				r.first = values[0];
+				r.last = values[values.length - 1];
+			}
+			for (int v : values)
+			{
+				if (v < -ConvexHull.MAX_COORDINATE || v > ConvexHull.MAX_COORDINATE)
+				{
+					r.outOfRange = true;
+					r.badValue = v;
+					return r;
+				}
+			}
+			for (int p = 0; p < 2; p++)
+			{
+				PointStore pts = new PointStore(values.length / 2);
+				for (int i = p; i + 1 < values.length; i += 2)
+				{
+					pts.add(values[i], values[i + 1]);
+				}
+				r.hulls[p] = hull(pts);
+			}
+			return r;
+		}
+	}
+}
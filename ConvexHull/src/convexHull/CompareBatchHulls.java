@@ -0,0 +1,125 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * This class measures the throughput, in hulls per second, of computing the convex hulls of many
+ * small random point sets: with one MonotoneChain object per set, and with HullBatch in the
+ * calling thread, on a fixed thread pool and, on Java 21 and later, on virtual threads.
+ *
+ */
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+public class CompareBatchHulls
+{
+	private static final int TRIALS = 3;
+
+
+	/**
+	 * Generates the point sets and prints the throughput of each way of computing their hulls.
+	 *
+	 * @param args  number of point sets (default 50000), points per set (default 50), threads of
+	 *              the pool (default the number of processors)
+	 */
+	public static void main(String[] args)
+	{
+		int numSets = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+		int setSize = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		int numThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+		Random rand = new Random(1);
+		List<PointStore> sets = new ArrayList<PointStore>(numSets);
+		List<Point[]> arrays = new ArrayList<Point[]>(numSets);
+		for (int i = 0; i < numSets; i++)
+		{
+			PointStore set = new PointStore(setSize);
+			for (int j = 0; j < setSize; j++)
+			{
+				set.add(rand.nextInt(101) - 50, rand.nextInt(101) - 50);
+			}
+			sets.add(set);
+			arrays.add(set.toPoints());
+		}
+
+		HullBatch batch = new HullBatch();
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		ExecutorService virtual = virtualThreadExecutor();
+		String line = "---------------------------------------------------";
+		System.out.println(numSets + " point sets of " + setSize + " points");
+
+		// the first trials warm up the JIT compiler
+		for (int trial = 1; trial <= TRIALS; trial++)
+		{
+			System.out.println("\nTrial " + trial);
+			System.out.println("method                      hulls/second");
+			System.out.println(line);
+
+			long time = System.nanoTime();
+			for (Point[] pts : arrays)
+			{
+				new MonotoneChain(pts).constructHull();
+			}
+			report("MonotoneChain per set", numSets, System.nanoTime() - time);
+
+			batch.setExecutor(null);
+			time = System.nanoTime();
+			batch.computeHulls(sets);
+			report("HullBatch, calling thread", numSets, System.nanoTime() - time);
+
+			batch.setExecutor(pool);
+			time = System.nanoTime();
+			batch.computeHulls(sets);
+			report("HullBatch, " + numThreads + " threads", numSets, System.nanoTime() - time);
+
+			if (virtual != null)
+			{
+				batch.setExecutor(virtual);
+				time = System.nanoTime();
+				batch.computeHulls(sets);
+				report("HullBatch, virtual threads", numSets, System.nanoTime() - time);
+			}
+			System.out.println(line);
+		}
+		pool.shutdown();
+		if (virtual != null)
+			virtual.shutdown();
+	}
+
+
+	/**
+	 * Prints a row of the table.
+	 */
+	private static void report(String method, int numSets, long nanos)
+	{
+		System.out.printf("%-28s%.0f%n", method, numSets * 1e9 / nanos);
+	}
+
+
+	/**
+	 * @return Executors.newVirtualThreadPerTaskExecutor(), or null before Java 21
+	 */
+	private static ExecutorService virtualThreadExecutor()
+	{
+		try
+		{
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * This class compares DynamicHull with recomputing the hull from scratch by MonotoneChain, on a
+ * workload that mixes insertions and deletions of random points and asks for the hull after every
+ * update.
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+public class CompareDynamicHull
+{
+	/**
+	 * Runs the workload with the given number of points, number of updates and share of deletions
+	 * among the updates, in percent, both ways and prints the time each way took.
+	 *
+	 * @param args  number of points (default 100000), number of updates (default 1000), deletions
+	 *              in percent (default 50)
+	 */
+	public static void main(String[] args)
+	{
+		int numPoints = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int numUpdates = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+		int deletions = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+		Random rand = new Random(1);
+		List<Point> points = new ArrayList<Point>(numPoints);
+		for (int i = 0; i < numPoints; i++)
+		{
+			points.add(randomPoint(rand));
+		}
+		// each update, fixed in advance so that both runs see the same workload: a point to
+		// insert, or the index among the current points of one to delete
+		Point[] inserted = new Point[numUpdates];
+		int[] deleted = new int[numUpdates];
+		int live = numPoints;
+		for (int i = 0; i < numUpdates; i++)
+		{
+			if (live > 1 && rand.nextInt(100) < deletions)
+			{
+				deleted[i] = rand.nextInt(live--);
+			}
+			else
+			{
+				inserted[i] = randomPoint(rand);
+				live++;
+			}
+		}
+
+		// recomputation
+		List<Point> current = new ArrayList<Point>(points);
+		long rTime = System.nanoTime();
+		int rSize = 0;
+		for (int i = 0; i < numUpdates; i++)
+		{
+			update(current, inserted[i], deleted[i]);
+			MonotoneChain chain = new MonotoneChain(current.toArray(new Point[current.size()]));
+			chain.constructHull();
+			rSize = chain.hullVertices.length;
+		}
+		rTime = System.nanoTime() - rTime;
+
+		// dynamic hull; building it from the initial points is timed separately
+		current = new ArrayList<Point>(points);
+		long bTime = System.nanoTime();
+		DynamicHull hull = new DynamicHull(points.toArray(new Point[numPoints]));
+		bTime = System.nanoTime() - bTime;
+		long dTime = System.nanoTime();
+		int dSize = 0;
+		for (int i = 0; i < numUpdates; i++)
+		{
+			Point p = update(current, inserted[i], deleted[i]);
+			if (inserted[i] != null)
+				hull.insert(p);
+			else
+				hull.delete(p);
+			dSize = hull.getHullVertices().length;
+		}
+		dTime = System.nanoTime() - dTime;
+
+		String line = "---------------------------------------------------";
+		System.out.println(numPoints + " points, " + numUpdates + " updates, " + deletions + "% deletions\n");
+		System.out.println("method             hull size    time (ns)");
+		System.out.println(line);
+		System.out.println("Recomputation      " + rSize + "          " + rTime);
+		System.out.println("Dynamic Hull       " + dSize + "          " + dTime);
+		System.out.println(line);
+		System.out.println("Building the dynamic hull (ns): " + bTime);
+	}
+
+
+	/**
+	 * Applies an update to points: adds inserted if it is not null, and otherwise removes the
+	 * point at index deleted.
+	 *
+	 * @return the point inserted or deleted
+	 */
+	private static Point update(List<Point> points, Point inserted, int deleted)
+	{
+		if (inserted != null)
+		{
+			points.add(inserted);
+			return inserted;
+		}
+		// move the last point into the hole
+		Point p = points.get(deleted);
+		points.set(deleted, points.get(points.size() - 1));
+		points.remove(points.size() - 1);
+		return p;
+	}
+
+
+	/**
+	 * @return point with pseudo-random coordinates within [-1000000, 1000000] x [-1000000, 1000000]
+	 */
+	private static Point randomPoint(Random rand)
+	{
+		return new Point(rand.nextInt(2000001) - 1000000, rand.nextInt(2000001) - 1000000);
+	}
+}
@@ -8,7 +8,8 @@ package convexHull;
 
 /**
  * 
- * This class executes two convex hull algorithms: Graham's scan and Jarvis' march, over randomly
+ * This class executes three convex hull algorithms: Graham's scan, Jarvis' march and Andrew's 
+ * monotone chain, over randomly
  * generated integers as well integers from a file input. It compares the execution times of 
  * these algorithms on the same input. 
  *
@@ -18,13 +19,15 @@ import java.io.FileNotFoundException;
 import java.util.Scanner;
 import java.util.InputMismatchException;
 import java.util.Random; 
+import java.util.Arrays;
 
 
 public class CompareHullAlgorithms 
 {
 	/**
-	 * Repeatedly take points either randomly generated or read from files. Perform Graham's scan and 
-	 * Jarvis' march over the input set of points, comparing their performances.  
+	 * Repeatedly take points either randomly generated or read from files. Perform Graham's scan, 
+	 * Jarvis' march and Andrew's monotone chain over the input set of points, comparing their 
+	 * performances.  
 	 * 
 	 * @param args
 	 * @throws FileNotFoundException 
@@ -36,11 +39,11 @@ public class CompareHullAlgorithms
 		// Conducts multiple rounds of convex hull construction. Within each round, performs the following: 
 		// 
 		//    1) If the input are random points, calls generateRandomPoints() to initialize an array 
-		//       pts[] of random points. Use pts[] to create two objects of GrahamScan and JarvisMarch, 
-		//       respectively.
+		//       pts[] of random points. Use pts[] to create objects of GrahamScan, JarvisMarch and 
+		//       MonotoneChain, respectively.
 		//
-		//    2) If the input is from a file, construct two objects of the classes GrahamScan and  
-		//       JarvisMarch, respectively, using the file.     
+		//    2) If the input is from a file, construct objects of the classes GrahamScan,  
+		//       JarvisMarch and MonotoneChain, respectively, using the file.     
 		//
 		//    3) Have each object call constructHull() to build the convex hull of the input points.
 		//
@@ -53,28 +56,41 @@ public class CompareHullAlgorithms
 		System.out.println("Comparison between Convex Hull Algorithms\n");
 		System.out.print("Trial 1: ");
 		Scanner input = new Scanner(System.in);
+		HullOptions measured = new HullOptions();
+		measured.setMeasureAllocation(true);
 		while (input.hasNextInt())
 		{
 			int gSize = 0;
 			int mSize = 0 ;
+			int cSize = 0;
 			long gTime = 0;
 			long mTime = 0;
+			long cTime = 0;
+			long gAlloc = -1;
+			int[] mWorkingSet = null;
 			if (input.nextInt() == 1)
 			{
 				System.out.print("Enter the number of random points: ");
 				int numPoints = input.nextInt();
 				Random rand = new Random();
 				Point[] points = generateRandomPoints(numPoints, rand);
-				GrahamScan graham = new GrahamScan(points);
+				GrahamScan graham = new GrahamScan(points, measured);
 				JarvisMarch march = new JarvisMarch(points);
+				MonotoneChain chain = new MonotoneChain(points);
 				graham.constructHull();
 				march.constructHull();
-				gSize = graham.pointsNoDuplicate.length;
-				mSize = march.pointsNoDuplicate.length;
+				chain.constructHull();
+				gSize = graham.pointsNoDuplicate.size();
+				mSize = march.pointsNoDuplicate.size();
+				cSize = chain.pointsNoDuplicate.size();
 				gTime = graham.time;
+				gAlloc = graham.getScanAllocation();
 				mTime = march.time;
+				mWorkingSet = march.getWorkingSetSizes();
+				cTime = chain.time;
 				graham.draw();
 				march.draw();
+				chain.draw();
 			}
 			else if (input.nextInt() == 2)
 			{
@@ -82,21 +98,30 @@ public class CompareHullAlgorithms
 				System.out.println("Points from a file");
 				System.out.print("File name: ");
 				fileName = input.next();
-				GrahamScan graham = new GrahamScan(fileName);
+				GrahamScan graham = new GrahamScan(fileName, measured);
 				JarvisMarch march = new JarvisMarch(fileName);
+				MonotoneChain chain = new MonotoneChain(fileName);
 				graham.constructHull();
 				march.constructHull();
-				gSize = graham.pointsNoDuplicate.length;
-				mSize = march.pointsNoDuplicate.length;
+				chain.constructHull();
+				gSize = graham.pointsNoDuplicate.size();
+				mSize = march.pointsNoDuplicate.size();
+				cSize = chain.pointsNoDuplicate.size();
 				gTime = graham.time;
+				gAlloc = graham.getScanAllocation();
 				mTime = march.time;
+				mWorkingSet = march.getWorkingSetSizes();
+				cTime = chain.time;
 			}
 			
 			System.out.println("algorithim         size        time (ns)");
 			System.out.println(line);
 			System.out.println("Graham's Scan      " + gSize + "          " + gTime); 
 			System.out.println("Jarvis' March      " + mSize + "          " + mTime);
+			System.out.println("Monotone Chain     " + cSize + "          " + cTime);
 			System.out.println(line);
+			System.out.println("Bytes allocated in Graham's scan loop: " + gAlloc);
+			System.out.println("Points scanned per step of Jarvis' march: " + Arrays.toString(mWorkingSet));
 			i++;
 			System.out.println("Trial " + i);
 		}
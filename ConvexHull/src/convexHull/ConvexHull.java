@@ -6,23 +6,31 @@ package convexHull;
  *
  */
 
-import java.util.ArrayList;
-import java.io.File;
 import java.io.FileNotFoundException; 
 import java.util.InputMismatchException; 
 import java.io.PrintWriter;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 
 
 /**
  * 
  * This class implements construction of the convex hull of a finite number of points. 
+ * 
+ * Every coordinate must lie between -MAX_COORDINATE and MAX_COORDINATE.  Within that range the 
+ * orientation tests of the engines are exact (see PolarAngleComparator.crossProduct()); beyond 
+ * it they may overflow, so the constructors reject such points (see checkRange()). 
  *
  */
 
 public abstract class ConvexHull 
 {
+	/**
+	 * Largest absolute value of a coordinate for which the hulls are exact, 2^30 - 1. 
+	 */
+	public static final int MAX_COORDINATE = (1 << 30) - 1;
+	
+	
 	// ---------------|
 	// Data Structures|
 	// ---------------|
@@ -32,24 +40,27 @@ public abstract class ConvexHull
 	protected long time;         // execution time in nanoseconds
 	
 	/**
-	 * The array points[] holds an input set of Points, which may be randomly generated or 
-	 * input from a file.  Duplicates are possible. 
+	 * The store points holds an input set of points, which may be randomly generated or 
+	 * input from a file.  Duplicates are possible.  Coordinates are kept as primitives; see 
+	 * PointStore. 
 	 */
-	private Point[] points;    
+	private PointStore points;    
 	
 
 	/**
-	 * Lowest point from points[]; and in case of a tie, the leftmost one of all such points. 
+	 * Lowest point from points; and in case of a tie, the leftmost one of all such points. 
 	 * To be set by a constructor. 
 	 */
 	protected Point lowestPoint; 
 
 	
 	/**
-	 * This array stores the same set of points from points[] with all duplicates removed. 
+	 * This store holds the same set of points from points with all duplicates removed. 
 	 * These are the points on which Graham's scan and Jarvis' march will be performed. 
+	 * removeDuplicates() compacts points in place, so after construction both refer to the 
+	 * same store. 
 	 */
-	 protected Point[] pointsNoDuplicate; 
+	 protected PointStore pointsNoDuplicate; 
 	
 	
 	/**
@@ -62,6 +73,29 @@ public abstract class ConvexHull
 	protected QuickSortPoints quicksorter;  // used (and reset) by this class and its subclass GrahamScan
 
 	
+	/**
+	 * Options this hull was constructed with.  A copy of the options passed to the constructor, 
+	 * so later changes to those have no effect on this hull. 
+	 */
+	protected final HullOptions options;
+	
+	
+	/**
+	 * Number of input points discarded by the pre-filter; 0 if it did not run. 
+	 */
+	protected int filteredCount;
+	
+	
+	/**
+	 * Number of duplicate points dropped by removeDuplicates(). 
+	 */
+	protected int duplicateCount;
+	
+	
+	protected int inputSize;   // number of input points, duplicates included
+	
+
+	
 	
 	// ------------
 	// Constructors
@@ -71,78 +105,222 @@ public abstract class ConvexHull
 	/**
 	 * Constructor over an array of points.  
 	 * 
-	 *    1) Store the points in the private array points[].
+	 *    1) Store the coordinates of the points in the private store points.
+	 *    
+	 *    1a) If the pre-filter is on (see HullOptions.setPreFilter()), drop the points strictly 
+	 *        inside the Akl-Toussaint octagon (see AklToussaintFilter). 
 	 *    
 	 *    2) Initialize quicksorter. 
 	 *    
-	 *    3) Call removeDuplicates() to store distinct points from the input in pointsNoDuplicate[].
+	 *    3) Call removeDuplicates() to store distinct points from the input in pointsNoDuplicate.
 	 *    
-	 *    4) Set lowestPoint to pointsNoDuplicate[0]. 
+	 *    4) Set lowestPoint to the first point of pointsNoDuplicate. 
 	 * 
 	 * @param pts
-	 * @throws IllegalArgumentException  if pts.length == 0
+	 * @throws IllegalArgumentException  if pts.length == 0, or a coordinate is out of range
 	 */
 	public ConvexHull(Point[] pts) throws IllegalArgumentException 
 	{
-		points = new Point[pts.length];
-		for (int i = 0; i < pts.length; i++)
-		{
-			points[i] = new Point(pts[i]);
-			
-		}
-		quicksorter = new QuickSortPoints(points);
-		this.removeDuplicates();
-		lowestPoint = pointsNoDuplicate[0];
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as ConvexHull(Point[]), with the given options instead of the defaults. 
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0, or a coordinate is out of range
+	 */
+	public ConvexHull(Point[] pts, HullOptions options) throws IllegalArgumentException 
+	{
+		this.options = new HullOptions(options);
+		points = new PointStore(pts);
+		this.setUp(false);
+	}
+	
+	
+	/**
+	 * Constructor over a PointStore.  Performs the operations 1)-4) described for the previous 
+	 * constructor; pts itself is copied and left unchanged. 
+	 * 
+	 * @param pts
+	 * @throws IllegalArgumentException  if pts is empty, or a coordinate is out of range
+	 */
+	public ConvexHull(PointStore pts) throws IllegalArgumentException 
+	{
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as ConvexHull(PointStore), with the given options instead of the defaults. 
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty, or a coordinate is out of range
+	 */
+	public ConvexHull(PointStore pts, HullOptions options) throws IllegalArgumentException 
+	{
+		this.options = new HullOptions(options);
+		points = new PointStore(pts);
+		this.setUp(false);
 	}
 	
 	
 	/**
 	 * Read integers from an input file.  Every pair of integers represent the x- and y-coordinates 
-	 * of a point.  Generate the points and store them in the private array points[]. The total 
+	 * of a point.  Generate the points and store them in the private store points. The total 
 	 * number of integers in the file must be even.
 	 * 
-	 * You may declare a Scanner object and call its methods such as hasNext(), hasNextInt() 
-	 * and nextInt(). An ArrayList may be used to store the input integers as they are read in 
-	 * from the file.  
+	 * The file is memory-mapped and its integers parsed straight into a PointStore by a 
+	 * MappedPointReader, which reads the same integers as a Scanner would.  If chunked input is on 
+	 * (see HullOptions.setChunkedInput()), the file is read in parallel by a ChunkedPointReader instead, and 
+	 * points only receives the points on the boundary of the convex hull of the input. 
+	 * 
+	 * A file in the binary format of BinaryPointFile, recognized by its magic number, is 
+	 * memory-mapped and copied into points directly. 
 	 * 
 	 * Perform the operations 1)-4) described for the previous constructor. 
 	 * 
 	 * @param  inputFileName
 	 * @throws FileNotFoundException
-	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 * @throws InputMismatchException   when the input file contains an odd number of integers or a 
+	 *                                  coordinate out of range, or is a malformed binary point file
 	 */
 	public ConvexHull(String inputFileName) throws FileNotFoundException, InputMismatchException
 	{
-		ArrayList<Point> list = new ArrayList<Point>();
-		File file = new File(inputFileName);
-		@SuppressWarnings("resource")
-		Scanner input = new Scanner(file);
-		
-		while (input.hasNextInt())
+		this(inputFileName, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as ConvexHull(String), with the given options instead of the defaults. 
+	 * 
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers or a 
+	 *                                  coordinate out of range, or is a malformed binary point file
+	 */
+	public ConvexHull(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		this.options = new HullOptions(options);
+		if (BinaryPointFile.isBinary(inputFileName))
 		{
-			int x = input.nextInt();
-			if (!input.hasNextInt())
-			{
-				throw new InputMismatchException("input file contains an odd number of integers");
-			}
-			int y  = input.nextInt();
-			list.add(new Point(x, y));
+			points = BinaryPointFile.read(inputFileName);
+			this.setUp(true);
+			return;
 		}
-		input.close();
-		
-		points = new Point[list.size()];
-		for (int i = 0; i < points.length; i++)
+		ForkJoinPool pool = this.options.getChunkedInput();
+		if (pool == null)
 		{
-			points[i] = list.get(i);
+			points = MappedPointReader.read(inputFileName);
+			this.setUp(true);
+			return;
 		}
+		ChunkedPointReader reader = new ChunkedPointReader(inputFileName);
+		points = reader.read(pool);
+		this.setUp(true);
+		inputSize = (int) Math.min(reader.getPointCount(), Integer.MAX_VALUE);
+	}
+	
+	
+	/**
+	 * Performs the operations 1a)-4) once points has been set, after checking every coordinate 
+	 * with checkRange(). 
+	 * 
+	 * @param  fromFile  true if points were read from a file
+	 * @throws IllegalArgumentException  if there are no points, or a coordinate is out of range 
+	 *                                   and fromFile is false
+	 * @throws InputMismatchException    if a coordinate is out of range and fromFile is true
+	 */
+	private void setUp(boolean fromFile) throws IllegalArgumentException, InputMismatchException
+	{
+		if (points.isEmpty())
+			throw new IllegalArgumentException("no input points");
+		for (int i = 0; i < points.size(); i++)
+		{
+			int x = points.getX(i);
+			int y = points.getY(i);
+			if (!inRange(x, y))
+			{
+				if (fromFile)
+					throw new InputMismatchException(rangeMessage(x, y));
+				throw new IllegalArgumentException(rangeMessage(x, y));
+			}
+		}
+		inputSize = points.size();
+		if (options.isPreFilter())
+			filteredCount = AklToussaintFilter.filter(points);
 		quicksorter = new QuickSortPoints(points);
+		quicksorter.setParallelism(options.getSortPool(), options.getSortThreshold());
 		this.removeDuplicates();
-		lowestPoint = pointsNoDuplicate[0];
+		lowestPoint = pointsNoDuplicate.toPoint(0);
 	}
 
 	
 	/**
-	 * Construct the convex hull of the points in the array pointsNoDuplicate[]. 
+	 * @param x
+	 * @param y
+	 * @return true if neither |x| nor |y| exceeds MAX_COORDINATE
+	 */
+	public static boolean inRange(int x, int y)
+	{
+		return -MAX_COORDINATE <= x && x <= MAX_COORDINATE && -MAX_COORDINATE <= y && y <= MAX_COORDINATE;
+	}
+	
+	
+	/**
+	 * Checks a point before it enters a hull.  Used by the structures that take points one at a 
+	 * time (IncrementalHull, DynamicHull, StreamingHullBuilder, SlidingWindowHull, HullBatch). 
+	 * 
+	 * @param x
+	 * @param y
+	 * @throws IllegalArgumentException  if inRange(x, y) is false
+	 */
+	static void checkRange(int x, int y) throws IllegalArgumentException
+	{
+		if (!inRange(x, y))
+			throw new IllegalArgumentException(rangeMessage(x, y));
+	}
+	
+	
+	static String rangeMessage(int x, int y)
+	{
+		return "coordinate out of range: (" + x + ", " + y + ")";
+	}
+	
+	
+	/**
+	 * @return number of input points discarded by the pre-filter
+	 */
+	public int getFilteredCount()
+	{
+		return filteredCount;
+	}
+	
+	
+	/**
+	 * @return number of duplicate points dropped by removeDuplicates()
+	 */
+	public int getDuplicateCount()
+	{
+		return duplicateCount;
+	}
+	
+	
+	/**
+	 * @return a copy of hullVertices[], or null if constructHull() has not been called 
+	 */
+	public Point[] getHullVertices()
+	{
+		return hullVertices == null ? null : hullVertices.clone();
+	}
+	
+	
+	/**
+	 * Construct the convex hull of the points in pointsNoDuplicate. 
 	 */
 	public abstract void constructHull(); 
 
@@ -161,7 +339,7 @@ public abstract class ConvexHull
 	 */
 	public String stats()
 	{
-		String stats = algorithm + "   " + points.length + "   " + "NEED TO FIND TIME";
+		String stats = algorithm + "   " + inputSize + "   " + "NEED TO FIND TIME";
 		return stats;
 	}
 	
@@ -231,9 +409,29 @@ public abstract class ConvexHull
 	 * @throws FileNotFoundException  if file cannot be found when creating print file
 	 */
 	public void writeHullToFile() throws IllegalStateException, FileNotFoundException 
+	{
+		writeHullToFile(false);
+	}
+	
+	
+	/**
+	 * Same as writeHullToFile() if binary is false.  Otherwise writes the vertices to the file 
+	 * "hull.bin" in the binary format of BinaryPointFile, which the constructor from a file 
+	 * reads back. 
+	 * 
+	 * @param binary
+	 * @throws IllegalStateException  if hullVertices[] has not been populated
+	 * @throws FileNotFoundException  if the file cannot be created
+	 */
+	public void writeHullToFile(boolean binary) throws IllegalStateException, FileNotFoundException 
 	{
 		if (hullVertices == null)
 			throw new IllegalStateException("hullVertices[] has not been populated");
+		if (binary)
+		{
+			BinaryPointFile.write(hullVertices, "hull.bin");
+			return;
+		}
 		PrintWriter print = new PrintWriter("hull.txt");
 		for (int i = 0; i < hullVertices.length; i++)
 		{
@@ -268,44 +466,47 @@ public abstract class ConvexHull
 		segments[lastInd] = new Segment(hullVertices[lastInd], hullVertices[0]);
 		
 		// The following statement creates a window to display the convex hull.
-		Plot.myFrame(pointsNoDuplicate, segments, getClass().getName());
+		Plot.myFrame(pointsNoDuplicate.toPoints(), segments, getClass().getName());
 		
 	}
 
 		
 	/**
-	 * Sort the array points[] by y-coordinate in increasing order.  Have quicksorter 
+	 * Sort the store points by y-coordinate in increasing order.  Have quicksorter 
 	 * invoke quicksort() with a comparator object which uses the compareTo() method of the Point 
-	 * class. Copy the sorted sequence onto the array pointsNoDuplicate[] with duplicates removed.
+	 * class. Remove the duplicates, which are now adjacent, by compacting the sorted store in 
+	 * place in a single pass, and make it pointsNoDuplicate.  Runs of any length collapse to a 
+	 * single point.  The number of points dropped is stored in duplicateCount. 
+	 * 
+	 * If radix sorting is on (see HullOptions.setRadixSort()), RadixSortPoints.sortUnique() does the sorting 
+	 * and the compaction in one go on packed keys, without comparator calls. 
 	 *     
 	 * Ought to be private, but is made public for testing convenience. 
 	 */
 	public void removeDuplicates()
 	{
-		YComparator ycomp = new YComparator();
-		quicksorter.quickSort(ycomp);
-		Point[] sorted = quicksorter.getSortedPoints(points);
-		ArrayList<Point> list = new ArrayList<Point>();
-		for (int i = 0; i < points.length; i++)
+		if (options.isRadixSort())
 		{
-			//copying the points array to an array list
-			list.add(sorted[i]);
+			PointStore sorted = quicksorter.getSortedStore();
+			duplicateCount = RadixSortPoints.sortUnique(sorted);
+			pointsNoDuplicate = sorted;
+			return;
 		}
-		//removing duplicates from the arraylist
-		for (int i = 0; i < list.size() - 1; i++)
+		YComparator ycomp = new YComparator();
+		quicksorter.quickSort(ycomp);
+		PointStore sorted = quicksorter.getSortedStore();
+		int kept = Math.min(sorted.size(), 1);
+		for (int i = 1; i < sorted.size(); i++)
 		{
-			Point current = list.get(i);
-			Point successor = list.get(i + 1);
-			if (current.equals(successor))
+			//keep a point only if it differs from the last point kept
+			if (!sorted.samePoint(i, kept - 1))
 			{
-				list.remove(i+1);
+				sorted.set(kept, sorted.getX(i), sorted.getY(i));
+				kept++;
 			}
 		}
-		//add points to pointsNoDuplicate[] array
-		pointsNoDuplicate = new Point[list.size()];
-		for (int i = 0; i < list.size(); i++)
-		{
-			pointsNoDuplicate[i] = list.get(i);
-		}
+		duplicateCount = sorted.size() - kept;
+		sorted.truncate(kept);
+		pointsNoDuplicate = sorted;
 	}
 }
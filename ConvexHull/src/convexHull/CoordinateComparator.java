@@ -0,0 +1,25 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Comparison of two points given by their coordinates.  Implemented by the comparators of this
+ * package next to Comparator<Point>, so that QuickSortPoints can sort a PointStore without
+ * creating Point objects.
+ *
+ */
+public interface CoordinateComparator
+{
+	/**
+	 * Compare the point (x1, y1) with the point (x2, y2).
+	 *
+	 * @return  a negative integer, zero, or a positive integer as the first point is less than,
+	 *          equal to, or greater than the second point
+	 */
+	int compare(int x1, int y1, int x2, int y2);
+}
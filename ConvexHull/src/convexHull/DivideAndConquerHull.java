@@ -0,0 +1,216 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.FileNotFoundException;
+import java.util.InputMismatchException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ *
+ * Divide and conquer hull, run in parallel on a ForkJoinPool.
+ *
+ * pointsNoDuplicate, which is sorted bottom-up, is split into slabCount slices of consecutive
+ * points, one per core by default.  The hull of every slab is built by MonotoneChain.chainHull()
+ * and adjacent hulls are merged pairwise by HullMerge.mergeAdjacent(), in time linear in their
+ * sizes.  Every merge is a RecursiveTask that forks the lower half of its slabs while computing
+ * the upper half.
+ *
+ * The slabs are horizontal rather than vertical because pointsNoDuplicate is already sorted by
+ * y-coordinate, so no further sort is needed.  Collinear points are left out of the hull.
+ *
+ */
+public class DivideAndConquerHull extends ConvexHull
+{
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	private int slabCount = pool.getParallelism();   // number of slabs, at least 1
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public DivideAndConquerHull(Point[] pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as DivideAndConquerHull(Point[]), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public DivideAndConquerHull(Point[] pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Divide and Conquer";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public DivideAndConquerHull(PointStore pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as DivideAndConquerHull(PointStore), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public DivideAndConquerHull(PointStore pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Divide and Conquer";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public DivideAndConquerHull(String inputFileName) throws FileNotFoundException, InputMismatchException
+	{
+		this(inputFileName, new HullOptions());
+	}
+
+
+	/**
+	 * Same as DivideAndConquerHull(String), with the given options instead of the defaults.
+	 *
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public DivideAndConquerHull(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options);
+		algorithm = "Divide and Conquer";
+	}
+
+
+	/**
+	 * Split the points into the given number of slabs.  The default is the parallelism of the
+	 * pool.
+	 *
+	 * @param slabCount
+	 * @throws IllegalArgumentException  if slabCount < 1
+	 */
+	public void setSlabCount(int slabCount) throws IllegalArgumentException
+	{
+		if (slabCount < 1)
+			throw new IllegalArgumentException("slab count must be positive");
+		this.slabCount = slabCount;
+	}
+
+
+	/**
+	 * Run the tasks on the given pool instead of the common pool.
+	 *
+	 * @param pool
+	 */
+	public void setPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+
+	// ------------------
+	// Divide and conquer
+	// ------------------
+
+	/**
+	 * Build the hulls of the slabs and merge them.  The vertices are stored in hullVertices[] in
+	 * counterclockwise order starting at lowestPoint.
+	 *
+     * Two degenerate cases below must be handled:
+     *
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
+     *        hull is the point itself.  There is then a single slab.
+     *
+     *     2) The array contains only collinear points, in which case the hull is the line segment
+     *        connecting the two extreme points.  Every merge then yields a segment.
+	 */
+	public void constructHull()
+	{
+		long startTime = System.nanoTime();
+		int n = pointsNoDuplicate.size();
+		int slabs = Math.min(slabCount, n);
+		PointStore hull = pool.invoke(new SlabTask(0, slabs, slabs));
+		hullVertices = hull.toPoints();
+		long endTime = System.nanoTime();
+		this.time = endTime - startTime;
+	}
+
+
+	/**
+	 * Builds the hull of slabs first, ..., last - 1 out of slabs.
+	 */
+	private class SlabTask extends RecursiveTask<PointStore>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private int first;
+		private int last;
+		private int slabs;
+
+		SlabTask(int first, int last, int slabs)
+		{
+			this.first = first;
+			this.last = last;
+			this.slabs = slabs;
+		}
+
+		@Override
+		protected PointStore compute()
+		{
+			if (last - first == 1)
+				return slabHull(first, slabs);
+			int mid = (first + last) >>> 1;
+			SlabTask lower = new SlabTask(first, mid, slabs);
+			lower.fork();
+			PointStore upper = new SlabTask(mid, last, slabs).compute();
+			return HullMerge.mergeAdjacent(lower.join(), upper);
+		}
+	}
+
+
+	/**
+	 * @return hull of slab s out of slabs, with its vertices copied out of pointsNoDuplicate
+	 */
+	private PointStore slabHull(int s, int slabs)
+	{
+		int n = pointsNoDuplicate.size();
+		int from = (int) ((long) s * n / slabs);
+		int to = (int) ((long) (s + 1) * n / slabs);
+		int[] chain = new int[2 * (to - from)];
+		int count = MonotoneChain.chainHull(pointsNoDuplicate, from, to, chain, 0);
+		PointStore hull = new PointStore(count);
+		for (int i = 0; i < count; i++)
+		{
+			hull.add(pointsNoDuplicate.getX(chain[i]), pointsNoDuplicate.getY(chain[i]));
+		}
+		return hull;
+	}
+}
@@ -0,0 +1,535 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *
+ * Convex hull of a set of points under insertions and deletions, after Overmars and van Leeuwen.
+ *
+ * The points are the leaves of a balanced binary tree, in the bottom-up order of
+ * Point.compareTo().  As in IncrementalHull the hull is split into its right chain (strict left
+ * turns) and its left chain (strict right turns), both running from lowestPoint up to the highest
+ * point.  The chain of an internal node, for either side, is a prefix of the chain of its left
+ * child followed by a suffix of the chain of its right child, joined by a bridge; every internal
+ * node stores just its two bridges.  The chains themselves are never stored: a node's chain is
+ * searched by walking down from the node and picking, at every node on the way, the side of its
+ * bridge that holds the answer.
+ *
+ * After an update the bridges of the nodes on the path to the leaf are recomputed bottom-up.  A
+ * bridge is found by a binary search on the left child's chain, each step of which locates the
+ * point of the right child's chain farthest outside the current edge, followed by a search for the
+ * tangent from the bridge end to the right child's chain: O(log^2 n) time.  The tree is kept
+ * weight-balanced by rebuilding the highest unbalanced subtree on the path, so insert() and
+ * delete() take O(log^3 n) amortized time.  getHullVertices() takes O(h log n) time.
+ *
+ * Points are counted with multiplicity: a point inserted twice stays until deleted twice.
+ * Coordinates must lie within ConvexHull.MAX_COORDINATE in absolute value; the constructor and
+ * insert() reject any other point.
+ *
+ */
+public class DynamicHull implements PointSink
+{
+	private static final double BALANCE = 0.75;   // no child may hold more than this share of leaves
+
+	private static final int RIGHT = 1;           // turn of the right chain
+	private static final int LEFT = -1;           // turn of the left chain
+
+	private Node root;
+
+	private int size;    // number of points, duplicates included
+
+
+	/**
+	 * Creates an empty hull.
+	 */
+	public DynamicHull()
+	{
+	}
+
+
+	/**
+	 * Creates the hull of pts.  The tree is built in one go over the sorted points, which is
+	 * faster than inserting them one by one.
+	 *
+	 * @param pts
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public DynamicHull(Point[] pts) throws IllegalArgumentException
+	{
+		for (Point p : pts)
+		{
+			ConvexHull.checkRange(p.getX(), p.getY());
+		}
+		Point[] sorted = pts.clone();
+		Arrays.sort(sorted);
+		List<Node> leaves = new ArrayList<Node>();
+		for (Point p : sorted)
+		{
+			if (!leaves.isEmpty() && leaves.get(leaves.size() - 1).point.equals(p))
+				leaves.get(leaves.size() - 1).count++;
+			else
+				leaves.add(new Node(p));
+		}
+		size = pts.length;
+		if (!leaves.isEmpty())
+			root = build(leaves, 0, leaves.size());
+	}
+
+
+	/**
+	 * Adds the point (x, y).
+	 *
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void add(int x, int y) throws IllegalArgumentException
+	{
+		insert(new Point(x, y));
+	}
+
+
+	/**
+	 * Inserts the point (x, y).
+	 *
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void insert(int x, int y) throws IllegalArgumentException
+	{
+		insert(new Point(x, y));
+	}
+
+
+	/**
+	 * Inserts the point p.
+	 *
+	 * @param p
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void insert(Point p) throws IllegalArgumentException
+	{
+		ConvexHull.checkRange(p.getX(), p.getY());
+		size++;
+		if (root == null)
+		{
+			root = new Node(p);
+			return;
+		}
+		List<Node> path = new ArrayList<Node>();
+		Node leaf = descend(p, path);
+		if (leaf.point.equals(p))
+		{
+			leaf.count++;
+			return;
+		}
+		Node fresh = new Node(p);
+		Node node = p.compareTo(leaf.point) < 0 ? new Node(fresh, leaf) : new Node(leaf, fresh);
+		replace(path, path.size() - 1, leaf, node);
+		path.add(node);
+		repair(path);
+	}
+
+
+	/**
+	 * Deletes the point (x, y).
+	 *
+	 * @return false if the point is not in the set
+	 */
+	public boolean delete(int x, int y)
+	{
+		return delete(new Point(x, y));
+	}
+
+
+	/**
+	 * Deletes one copy of the point p.
+	 *
+	 * @param p
+	 * @return false if p is not in the set
+	 */
+	public boolean delete(Point p)
+	{
+		if (root == null)
+			return false;
+		List<Node> path = new ArrayList<Node>();
+		Node leaf = descend(p, path);
+		if (!leaf.point.equals(p))
+			return false;
+		size--;
+		if (leaf.count > 1)
+		{
+			leaf.count--;
+			return true;
+		}
+		if (path.isEmpty())
+		{
+			root = null;
+			return true;
+		}
+		Node parent = path.remove(path.size() - 1);
+		Node sibling = parent.left == leaf ? parent.right : parent.left;
+		replace(path, path.size() - 1, parent, sibling);
+		repair(path);
+		return true;
+	}
+
+
+	/**
+	 * @return number of points, duplicates included
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+
+	/**
+	 * @return vertices of the hull in counterclockwise order starting at lowestPoint, as in
+	 *         ConvexHull.hullVertices[], with no collinear vertices; empty if there are no points
+	 */
+	public Point[] getHullVertices()
+	{
+		if (root == null)
+			return new Point[0];
+		List<Point> right = new ArrayList<Point>();
+		List<Point> left = new ArrayList<Point>();
+		chain(root, null, null, RIGHT, right);
+		chain(root, null, null, LEFT, left);
+		List<Point> vertices = new ArrayList<Point>(right);
+		for (int i = left.size() - 2; i > 0; i--)
+		{
+			vertices.add(left.get(i));
+		}
+		return vertices.toArray(new Point[vertices.size()]);
+	}
+
+
+	// ----
+	// Tree
+	// ----
+
+	/**
+	 * Leaf holding a point, or internal node holding the bridges of its two chains.
+	 */
+	private static class Node
+	{
+		private Point point;        // leaf: the point
+		private int count;          // leaf: its multiplicity
+
+		private Node left;          // internal: children, every point of left before every point of right
+		private Node right;
+		private int leaves;         // number of leaves below, 1 for a leaf
+		private Point max;          // greatest point below
+
+		// bridges of the right and the left chain, from a vertex of left to a vertex of right
+		private Point rightFrom;
+		private Point rightTo;
+		private Point leftFrom;
+		private Point leftTo;
+
+		Node(Point p)
+		{
+			point = p;
+			count = 1;
+			leaves = 1;
+			max = p;
+		}
+
+		Node(Node left, Node right)
+		{
+			this.left = left;
+			this.right = right;
+			update();
+		}
+
+		boolean isLeaf()
+		{
+			return left == null;
+		}
+
+		Point from(int turn)
+		{
+			return turn == RIGHT ? rightFrom : leftFrom;
+		}
+
+		Point to(int turn)
+		{
+			return turn == RIGHT ? rightTo : leftTo;
+		}
+
+		/**
+		 * Recomputes the size, the greatest point and the bridges from the children.
+		 */
+		void update()
+		{
+			leaves = left.leaves + right.leaves;
+			max = right.max;
+			Point[] r = bridge(left, right, RIGHT);
+			rightFrom = r[0];
+			rightTo = r[1];
+			Point[] l = bridge(left, right, LEFT);
+			leftFrom = l[0];
+			leftTo = l[1];
+		}
+	}
+
+
+	/**
+	 * Walks from the root down to the leaf where p is or would be, adding the internal nodes on
+	 * the way to path.
+	 *
+	 * @return the leaf
+	 */
+	private Node descend(Point p, List<Node> path)
+	{
+		Node node = root;
+		while (!node.isLeaf())
+		{
+			path.add(node);
+			node = p.compareTo(node.left.max) <= 0 ? node.left : node.right;
+		}
+		return node;
+	}
+
+
+	/**
+	 * Puts replacement in the place of the child old of path.get(i), or of the root if i < 0.
+	 */
+	private void replace(List<Node> path, int i, Node old, Node replacement)
+	{
+		if (i < 0)
+			root = replacement;
+		else if (path.get(i).left == old)
+			path.get(i).left = replacement;
+		else
+			path.get(i).right = replacement;
+	}
+
+
+	/**
+	 * Updates the nodes of path bottom-up, then rebuilds the highest one that is out of balance.
+	 */
+	private void repair(List<Node> path)
+	{
+		for (int i = path.size() - 1; i >= 0; i--)
+		{
+			path.get(i).update();
+		}
+		for (int i = 0; i < path.size(); i++)
+		{
+			Node node = path.get(i);
+			if (Math.max(node.left.leaves, node.right.leaves) > BALANCE * node.leaves + 1)
+			{
+				List<Node> leaves = new ArrayList<Node>(node.leaves);
+				collect(node, leaves);
+				replace(path, i - 1, node, build(leaves, 0, leaves.size()));
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * Adds the leaves below node to leaves, in order.
+	 */
+	private static void collect(Node node, List<Node> leaves)
+	{
+		if (node.isLeaf())
+		{
+			leaves.add(node);
+			return;
+		}
+		collect(node.left, leaves);
+		collect(node.right, leaves);
+	}
+
+
+	/**
+	 * @return perfectly balanced tree over leaves[from] ... leaves[to - 1]
+	 */
+	private static Node build(List<Node> leaves, int from, int to)
+	{
+		if (to - from == 1)
+			return leaves.get(from);
+		int mid = (from + to) >>> 1;
+		return new Node(build(leaves, from, mid), build(leaves, mid, to));
+	}
+
+
+	// ------
+	// Chains
+	// ------
+
+	/**
+	 * Finds the bridge of the chain with the given turn between the hulls of left and right.
+	 *
+	 * The end on the left chain is found by a binary search over its edges: if every point of the
+	 * right chain lies strictly inside the line of an edge, the bridge leaves the left chain after
+	 * that edge, and if some point lies strictly outside, before it.  If the farthest point lies on
+	 * the line, the bridge continues the edge from its first end, which leaves the second end out
+	 * as a collinear point.  The other end is then the tangent from the first end to the right
+	 * chain, taken as far out as possible when an edge of the right chain points at the first end.
+	 *
+	 * @return the two ends of the bridge
+	 */
+	private static Point[] bridge(Node left, Node right, int turn)
+	{
+		Point from = null;
+		Node node = left;
+		Point lo = null;
+		Point hi = null;
+		while (from == null)
+		{
+			if (node.isLeaf())
+			{
+				from = node.point;
+				break;
+			}
+			Point a = node.from(turn);
+			Point b = node.to(turn);
+			if (hi != null && hi.compareTo(b) < 0)
+			{
+				node = node.left;
+				continue;
+			}
+			if (lo != null && lo.compareTo(a) > 0)
+			{
+				node = node.right;
+				continue;
+			}
+			long farthest = farthestOutside(right, a, b, turn);
+			if (farthest < 0)
+			{
+				lo = b;
+				node = node.right;
+			}
+			else if (farthest > 0)
+			{
+				hi = a;
+				node = node.left;
+			}
+			else
+			{
+				from = a;
+			}
+		}
+
+		Point to = null;
+		node = right;
+		lo = null;
+		hi = null;
+		while (to == null)
+		{
+			if (node.isLeaf())
+			{
+				to = node.point;
+				break;
+			}
+			Point a = node.from(turn);
+			Point b = node.to(turn);
+			if (hi != null && hi.compareTo(b) < 0)
+			{
+				node = node.left;
+				continue;
+			}
+			if (lo != null && lo.compareTo(a) > 0)
+			{
+				node = node.right;
+				continue;
+			}
+			long side = outside(a, b, from, turn);
+			if (side > 0)
+			{
+				lo = b;
+				node = node.right;
+			}
+			else if (side < 0)
+			{
+				hi = a;
+				node = node.left;
+			}
+			else
+			{
+				to = b;
+			}
+		}
+		return new Point[] { from, to };
+	}
+
+
+	/**
+	 * @return greatest distance, up to a positive factor, by which a vertex of the chain of node
+	 *         lies outside the line from a through b; negative if all of them lie inside
+	 */
+	private static long farthestOutside(Node node, Point a, Point b, int turn)
+	{
+		Point lo = null;
+		Point hi = null;
+		while (!node.isLeaf())
+		{
+			Point c = node.from(turn);
+			Point d = node.to(turn);
+			if (hi != null && hi.compareTo(d) < 0)
+			{
+				node = node.left;
+			}
+			else if (lo != null && lo.compareTo(c) > 0)
+			{
+				node = node.right;
+			}
+			else if (outside(a, b, d, turn) > outside(a, b, c, turn))
+			{
+				lo = d;
+				node = node.right;
+			}
+			else
+			{
+				hi = c;
+				node = node.left;
+			}
+		}
+		return outside(a, b, node.point, turn);
+	}
+
+
+	/**
+	 * @return how far p lies outside the line from a through b, up to a positive factor: to the
+	 *         right of it for the right chain, to the left for the left chain
+	 */
+	private static long outside(Point a, Point b, Point p, int turn)
+	{
+		return -turn * PolarAngleComparator.crossProduct(a.getX(), a.getY(), b.getX(), b.getY(), p.getX(), p.getY());
+	}
+
+
+	/**
+	 * Adds to out, in order, the vertices between lo and hi (null for no bound) of the chain of
+	 * node with the given turn.
+	 */
+	private static void chain(Node node, Point lo, Point hi, int turn, List<Point> out)
+	{
+		if (node.isLeaf())
+		{
+			out.add(node.point);
+			return;
+		}
+		Point a = node.from(turn);
+		Point b = node.to(turn);
+		if (lo == null || lo.compareTo(a) <= 0)
+			chain(node.left, lo, hi == null || hi.compareTo(a) > 0 ? a : hi, turn, out);
+		if (hi == null || hi.compareTo(b) >= 0)
+			chain(node.right, lo == null || lo.compareTo(b) < 0 ? b : lo, hi, turn, out);
+	}
+}
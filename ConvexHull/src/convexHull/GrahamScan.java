@@ -7,29 +7,79 @@ package convexHull;
  */
 
 import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.InputMismatchException; 
 
 public class GrahamScan extends ConvexHull
 {
 	/**
 	 * Stack used by Grahma's scan to store the vertices of the convex hull of the points 
-	 * scanned so far.  At the end of the scan, it stores the hull vertices in the 
-	 * counterclockwise order. 
+	 * scanned so far, as indices into pointsNoDuplicate.  At the end of the scan, it stores 
+	 * the hull vertices in the counterclockwise order.  It is an IntStack sized for all the 
+	 * points, so the scan neither boxes nor grows it. 
 	 */
-	private PureStack<Point> vertexStack;  
-
-
+	private IntStack vertexStack;  
+	
+	
+	/**
+	 * Bytes allocated by the current thread during the scan loop of the last constructHull(), 
+	 * or -1 if it was not measured (see HullOptions.setMeasureAllocation()) or the JVM cannot 
+	 * measure it. 
+	 */
+	private long scanAllocation = -1;
+	
+	
 	/**
 	 * Call corresponding constructor of the super class.  Initialize two variables: algorithm 
-	 * (from the class ConvexHull) and vertexStack. 
+	 * (from the class ConvexHull) and vertexStack, with room for every point. 
 	 * 
 	 * @throws IllegalArgumentException  if pts.length == 0
 	 */
 	public GrahamScan(Point[] pts) throws IllegalArgumentException 
 	{
-		super(pts); 
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as GrahamScan(Point[]), with the given options instead of the defaults.
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public GrahamScan(Point[] pts, HullOptions options) throws IllegalArgumentException 
+	{
+		super(pts, options); 
 		this.algorithm = "GrahamScan";
-		vertexStack = new ArrayBasedStack<Point>();
+		vertexStack = new IntStack(pointsNoDuplicate.size());
+	}
+	
+	
+	/**
+	 * Call corresponding constructor of the super class.  Initialize algorithm and vertexStack.  
+	 * 
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public GrahamScan(PointStore pts) throws IllegalArgumentException 
+	{
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as GrahamScan(PointStore), with the given options instead of the defaults.
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public GrahamScan(PointStore pts, HullOptions options) throws IllegalArgumentException 
+	{
+		super(pts, options); 
+		this.algorithm = "GrahamScan";
+		vertexStack = new IntStack(pointsNoDuplicate.size());
 	}
 	
 
@@ -42,12 +92,76 @@ public class GrahamScan extends ConvexHull
 	 */
 	public GrahamScan(String inputFileName) throws FileNotFoundException, InputMismatchException
 	{
-		super(inputFileName); 
+		this(inputFileName, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as GrahamScan(String), with the given options instead of the defaults.
+	 * 
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public GrahamScan(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options); 
 		this.algorithm = "GrahamScan";
-		vertexStack = new ArrayBasedStack<Point>();
+		vertexStack = new IntStack(pointsNoDuplicate.size());
 	}
 
 	
+	/**
+	 * Use the given stack as vertexStack, e.g. to share one stack among many hulls built one 
+	 * after another.  It is cleared and, if needed, grown by constructHull(). 
+	 * 
+	 * @param stack
+	 */
+	public void setVertexStack(IntStack stack)
+	{
+		vertexStack = stack;
+	}
+	
+	
+	/**
+	 * @return bytes allocated during the scan loop of the last constructHull(), or -1 if the 
+	 *         options did not ask for the measurement or the JVM does not support it
+	 */
+	public long getScanAllocation()
+	{
+		return scanAllocation;
+	}
+	
+	
+	/**
+	 * Holds the bean for threadAllocatedBytes(), so that it is looked up, which allocates, only 
+	 * once and only if some GrahamScan measures its allocation. 
+	 */
+	private static class ThreadBean
+	{
+		static final ThreadMXBean BEAN = ManagementFactory.getThreadMXBean();
+	}
+	
+	
+	/**
+	 * Bytes allocated so far by the current thread. 
+	 * 
+	 * @return the count, or -1 if the JVM does not support it
+	 */
+	private static long threadAllocatedBytes()
+	{
+		ThreadMXBean bean = ThreadBean.BEAN;
+		if (bean instanceof com.sun.management.ThreadMXBean)
+		{
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled())
+				return sunBean.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+	
+	
 	// -------------
 	// Graham's scan
 	// -------------
@@ -55,11 +169,12 @@ public class GrahamScan extends ConvexHull
 	/**
 	 * This method carries out Graham's scan in several steps below: 
 	 * 
-	 *     1) Call the private method setUpScan() to sort all the points in the array 
-	 *        pointsNoDuplicate[] by polar angle with respect to lowestPoint.    
+	 *     1) Call the private method setUpScan() to sort all the points in pointsNoDuplicate 
+	 *        by polar angle with respect to lowestPoint.    
 	 *        
-	 *     2) Perform Graham's scan. To initialize the scan, push pointsNoDuplicate[0] and 
-	 *        pointsNoDuplicate[1] onto vertexStack.  
+	 *     2) Perform Graham's scan. To initialize the scan, push the indices 0 and 1 of 
+	 *        pointsNoDuplicate onto vertexStack.  The loop works on indices and primitive 
+	 *        coordinates only and allocates nothing. 
 	 * 
      *     3) As the scan terminates, vertexStack holds the vertices of the convex hull.  Pop the 
      *        vertices out of the stack and add them to the array hullVertices[], starting at index
@@ -67,7 +182,7 @@ public class GrahamScan extends ConvexHull
      *        
      * Two degenerate cases below must be handled: 
      * 
-     *     1) The array pointsNoDuplicates[] contains just one point, in which case the convex
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
      *        hull is the point itself. 
      *     
      *     2) The array contains only collinear points, in which case the hull is the line segment 
@@ -76,53 +191,56 @@ public class GrahamScan extends ConvexHull
 	public void constructHull()
 	{
 		long startTime = System.nanoTime();
-		if (pointsNoDuplicate.length == 1)
+		int n = pointsNoDuplicate.size();
+		if (n == 1)
 		{
 			this.hullVertices = new Point[1];
-			hullVertices[0] = pointsNoDuplicate[0];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
 			return;
 		}
-		if (pointsNoDuplicate.length == 2)
+		if (n == 2)
 		{
 			this.hullVertices = new Point[2];
-			hullVertices[0] = pointsNoDuplicate[0];
-			hullVertices[1] = pointsNoDuplicate[1];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
+			hullVertices[1] = pointsNoDuplicate.toPoint(1);
 			return;
 		}
 		this.setUpScan();//sorts all the points by polar angle
-		this.vertexStack.push(pointsNoDuplicate[0]);
-		this.vertexStack.push(pointsNoDuplicate[1]);
-		Point ref = pointsNoDuplicate[0];
-		Point p1 = pointsNoDuplicate[1];
+		vertexStack.clear();
+		vertexStack.ensureCapacity(n);
+		long allocationBefore = options.isMeasureAllocation() ? threadAllocatedBytes() : -1;
+		vertexStack.push(0);
+		vertexStack.push(1);
 		int i = 2;
-		Point p2 = pointsNoDuplicate[i];
-		while (i < pointsNoDuplicate.length)
+		while (i < n)
 		{
-			PolarAngleComparator comp = new PolarAngleComparator(ref, true);
-			int result = comp.compare(p1, p2);
-			if (result == -1) //left turn
+			// same test as PolarAngleComparator(ref, true).compare(p1, p2) < 0, done inline
+			int ref = vertexStack.peek(1);
+			int p1 = vertexStack.peek();
+			int xref = pointsNoDuplicate.getX(ref);
+			int yref = pointsNoDuplicate.getY(ref);
+			int x1 = pointsNoDuplicate.getX(p1);
+			int y1 = pointsNoDuplicate.getY(p1);
+			int x2 = pointsNoDuplicate.getX(i);
+			int y2 = pointsNoDuplicate.getY(i);
+			long cross = PolarAngleComparator.crossProduct(xref, yref, x1, y1, x2, y2);
+			if (cross > 0 || (cross == 0 && PolarAngleComparator.dotProduct(xref, yref, x1, y1, x1, y1) 
+			                                < PolarAngleComparator.dotProduct(xref, yref, x2, y2, x2, y2)))
 			{
-				vertexStack.push(p2);
-				ref = p1;
-				p1 = p2;
+				vertexStack.push(i); //left turn
 				i++;
-				if (i < pointsNoDuplicate.length)
-					p2 = pointsNoDuplicate[i];
 			}
-			else if (result == 1) //right turn
+			else
 			{
-				p1 = ref;
-				vertexStack.pop();
-				vertexStack.pop();
-				ref = vertexStack.peek();
-				vertexStack.push(p1);
+				vertexStack.pop(); //right turn
 			}
 		}
+		scanAllocation = allocationBefore < 0 ? -1 : threadAllocatedBytes() - allocationBefore;
 		
 		hullVertices = new Point[vertexStack.size()];
 		for (int j = hullVertices.length-1; j >= 0; j--)
 		{
-			hullVertices[j] = vertexStack.pop();
+			hullVertices[j] = pointsNoDuplicate.toPoint(vertexStack.pop());
 		}
 		long endTime = System.nanoTime();
 		this.time = endTime - startTime;
@@ -131,18 +249,28 @@ public class GrahamScan extends ConvexHull
 	
 	/**
 	 * Set the variable quicksorter from the class ConvexHull to sort by polar angle with respect 
-	 * to lowestPoint, and call quickSort() from the QuickSortPoints class on pointsNoDuplicate[]. 
+	 * to lowestPoint, and call quickSort() from the QuickSortPoints class on pointsNoDuplicate, 
+	 * which is sorted in place. 
 	 * The argument supplied to quickSort() is an object created by the constructor call 
 	 * PolarAngleComparator(lowestPoint, true).       
 	 * 
+	 * If angle key sorting is on (see HullOptions.setAngleKeySort()), PolarAngleKeySort.sort() produces the 
+	 * same order from one precomputed key per point instead. 
+	 * 
 	 * Ought to be private, but is made public for testing convenience. 
 	 *
 	 */
 	public void setUpScan()
 	{
+		if (options.isAngleKeySort())
+		{
+			PolarAngleKeySort.sort(pointsNoDuplicate, lowestPoint.getX(), lowestPoint.getY());
+			return;
+		}
 		quicksorter = new QuickSortPoints(pointsNoDuplicate);
+		quicksorter.setParallelism(options.getSortPool(), options.getSortThreshold());
 		PolarAngleComparator comp = new PolarAngleComparator(lowestPoint, true);
 		quicksorter.quickSort(comp);
-		pointsNoDuplicate = quicksorter.getSortedPoints(pointsNoDuplicate);
+		pointsNoDuplicate = quicksorter.getSortedStore();
 	}	
 }
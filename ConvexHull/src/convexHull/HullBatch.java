@@ -0,0 +1,212 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ *
+ * Computes the convex hulls of many independent point sets, e.g. one small set per entity,
+ * without creating a ConvexHull engine per set.
+ *
+ * The sets are split into tasks of batchSize consecutive sets, which run on the executor set by
+ * setExecutor(): a thread pool, a ForkJoinPool, or one virtual thread per task
+ * (Executors.newVirtualThreadPerTaskExecutor() on Java 21 and later).  Without an executor all
+ * sets are done in the calling thread.  A task takes a Scratch from a pool, runs every set of its
+ * range through it and gives it back, so the sort keys, the sorted points and the chain indices
+ * are allocated once per worker instead of once per set; a pool rather than a ThreadLocal makes
+ * this work for virtual threads too, which are never reused.  Per set, the points are packed
+ * into keys as by RadixSortPoints, sorted and deduplicated, and MonotoneChain.chainHull() is run
+ * over them.  The only allocation per set is its result.
+ *
+ * The results are returned in the order of the sets, regardless of the order in which the tasks
+ * finish.  As for the engines, coordinates must lie within ConvexHull.MAX_COORDINATE in absolute
+ * value; a set with any other point is rejected before any hull is computed.
+ *
+ */
+public class HullBatch
+{
+	private static final int DEFAULT_BATCH_SIZE = 256;
+
+	private Executor executor;    // null: compute in the calling thread
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final ConcurrentLinkedQueue<Scratch> scratches = new ConcurrentLinkedQueue<Scratch>();
+
+
+	/**
+	 * Sets the executor to run the tasks on.  null, the default, computes all hulls in the
+	 * calling thread.
+	 *
+	 * @param executor
+	 */
+	public void setExecutor(Executor executor)
+	{
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Sets the number of consecutive point sets done by one task.
+	 *
+	 * @param batchSize
+	 * @throws IllegalArgumentException  if batchSize < 1
+	 */
+	public void setBatchSize(int batchSize) throws IllegalArgumentException
+	{
+		if (batchSize < 1)
+			throw new IllegalArgumentException("batch size must be positive");
+		this.batchSize = batchSize;
+	}
+
+
+	/**
+	 * Computes the convex hull of every point set.  The sets are not modified.
+	 *
+	 * @param pointSets
+	 * @return for each set in turn, the vertices of its convex hull counterclockwise from the lowest
+	 *         one, with no collinear vertices; empty for an empty set
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public List<PointStore> computeHulls(List<PointStore> pointSets) throws IllegalArgumentException
+	{
+		PointStore[] hulls = new PointStore[pointSets.size()];
+		PointStore[] sets = pointSets.toArray(new PointStore[hulls.length]);
+		for (PointStore pts : sets)
+		{
+			for (int i = 0; i < pts.size(); i++)
+			{
+				ConvexHull.checkRange(pts.getX(i), pts.getY(i));
+			}
+		}
+		if (executor == null)
+		{
+			run(sets, hulls, 0, sets.length);
+			return Arrays.asList(hulls);
+		}
+
+		List<CompletableFuture<Void>> tasks = new ArrayList<CompletableFuture<Void>>();
+		for (int from = 0; from < sets.length; from += batchSize)
+		{
+			int start = from;
+			int end = Math.min(from + batchSize, sets.length);
+			tasks.add(CompletableFuture.runAsync(() -> run(sets, hulls, start, end), executor));
+		}
+		try
+		{
+			CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw e;
+		}
+		return Arrays.asList(hulls);
+	}
+
+
+	/**
+	 * Same as computeHulls() for point sets given as arrays of Point objects.
+	 *
+	 * @param pointSets
+	 * @return for each set in turn, the vertices of its convex hull counterclockwise from the lowest
+	 *         one, with no collinear vertices; empty for an empty set
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public List<Point[]> computeHullVertices(List<Point[]> pointSets) throws IllegalArgumentException
+	{
+		List<PointStore> stores = new ArrayList<PointStore>(pointSets.size());
+		for (Point[] pts : pointSets)
+		{
+			stores.add(new PointStore(pts));
+		}
+		List<Point[]> vertices = new ArrayList<Point[]>(stores.size());
+		for (PointStore hull : computeHulls(stores))
+		{
+			vertices.add(hull.toPoints());
+		}
+		return vertices;
+	}
+
+
+	/**
+	 * Computes hulls[i] for from <= i < to with a scratch from the pool.
+	 */
+	private void run(PointStore[] sets, PointStore[] hulls, int from, int to)
+	{
+		Scratch scratch = scratches.poll();
+		if (scratch == null)
+			scratch = new Scratch();
+		for (int i = from; i < to; i++)
+		{
+			hulls[i] = scratch.hull(sets[i]);
+		}
+		scratches.offer(scratch);
+	}
+
+
+	/**
+	 * Buffers for computing one hull at a time, grown as needed and kept for the next set.
+	 */
+	private static class Scratch
+	{
+		private long[] keys = new long[0];
+
+		private PointStore sorted = new PointStore();
+
+		private int[] chain = new int[0];
+
+		/**
+		 * @return hull of pts, counterclockwise from the lowest vertex
+		 */
+		PointStore hull(PointStore pts)
+		{
+			int n = pts.size();
+			if (n == 0)
+				return new PointStore();
+			if (keys.length < n)
+				keys = new long[Math.max(n, 2 * keys.length)];
+
+			// flipping the sign bit makes the signed order of the keys that of RadixSortPoints
+			for (int i = 0; i < n; i++)
+			{
+				keys[i] = RadixSortPoints.pack(pts.getX(i), pts.getY(i)) ^ Long.MIN_VALUE;
+			}
+			Arrays.sort(keys, 0, n);
+			sorted.truncate(0);
+			for (int i = 0; i < n; i++)
+			{
+				if (i == 0 || keys[i] != keys[i - 1])
+				{
+					long key = keys[i] ^ Long.MIN_VALUE;
+					sorted.add(RadixSortPoints.unpackX(key), RadixSortPoints.unpackY(key));
+				}
+			}
+
+			int m = sorted.size();
+			if (chain.length < 2 * m)
+				chain = new int[Math.max(2 * m, 2 * chain.length)];
+			int count = MonotoneChain.chainHull(sorted, 0, m, chain, 0);
+			PointStore hull = new PointStore(count);
+			for (int k = 0; k < count; k++)
+			{
+				hull.add(sorted.getX(chain[k]), sorted.getY(chain[k]));
+			}
+			return hull;
+		}
+	}
+}
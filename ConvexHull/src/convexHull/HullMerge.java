@@ -0,0 +1,311 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Merges of convex hulls given by their vertices in the form the engines produce: counterclockwise
+ * order starting at the lowest vertex (the leftmost one among the lowest), with no collinear
+ * vertices.  The merges work on the vertices alone and never see the points inside the hulls.
+ *
+ * mergeAdjacent() merges two hulls that are separated in the bottom-up order of Point.compareTo(),
+ * e.g. the hulls of two consecutive slices of pointsNoDuplicate.  It finds the two bridges between
+ * them by walking along both hulls, in O(h1 + h2) time for hulls of h1 and h2 vertices.
+ *
+ * merge() merges any number of hulls, which may overlap, e.g. the hulls of shards of a point set
+ * built on different machines.  The vertices of a hull are put in bottom-up order in linear time
+ * by merging its right chain with its reversed left chain.  Two hulls are merged by merging their
+ * vertices in bottom-up order and running MonotoneChain.chainHull() over the result, which takes
+ * O(h1 + h2) time.  More hulls are merged pairwise in a balanced tree, in O(H log k) time for k
+ * hulls of H vertices in total.
+ *
+ * As for the engines, coordinates must lie within ConvexHull.MAX_COORDINATE in absolute value.
+ *
+ */
+public class HullMerge
+{
+	/**
+	 * Returns the convex hull of the union of the given hulls.  A hull may also contain collinear
+	 * vertices, as those of GrahamScan do.
+	 *
+	 * @param hulls
+	 * @return vertices of the merged hull, counterclockwise from the lowest vertex
+	 * @throws IllegalArgumentException  if no hull is given
+	 */
+	public static Point[] merge(Point[]... hulls) throws IllegalArgumentException
+	{
+		PointStore[] stores = new PointStore[hulls.length];
+		for (int i = 0; i < hulls.length; i++)
+		{
+			stores[i] = new PointStore(hulls[i]);
+		}
+		return merge(stores).toPoints();
+	}
+
+
+	/**
+	 * Same as merge(Point[]...) for hulls stored in PointStores.  The hulls are not modified.
+	 *
+	 * @param hulls
+	 * @return vertices of the merged hull, counterclockwise from the lowest vertex
+	 * @throws IllegalArgumentException  if no hull is given
+	 */
+	public static PointStore merge(PointStore... hulls) throws IllegalArgumentException
+	{
+		return merge(hulls, false);
+	}
+
+
+	/**
+	 * Same as merge(PointStore...) if keepCollinear is false.  Otherwise the hulls may hold, and
+	 * the merged hull holds, every point on their boundary, collinear ones included (see
+	 * MonotoneChain.chainHull()).
+	 *
+	 * @param hulls
+	 * @param keepCollinear
+	 * @return points on the boundary of the merged hull, counterclockwise from the lowest one
+	 * @throws IllegalArgumentException  if no hull is given
+	 */
+	static PointStore merge(PointStore[] hulls, boolean keepCollinear) throws IllegalArgumentException
+	{
+		if (hulls.length == 0)
+			throw new IllegalArgumentException("no hulls to merge");
+		if (hulls.length == 1)
+			return mergeTwo(hulls[0], new PointStore(), keepCollinear);
+
+		PointStore[] level = hulls.clone();
+		int count = level.length;
+		while (count > 1)
+		{
+			int next = 0;
+			for (int i = 0; i < count; i += 2)
+			{
+				level[next++] = i + 1 < count ? mergeTwo(level[i], level[i + 1], keepCollinear) : level[i];
+			}
+			count = next;
+		}
+		return level[0];
+	}
+
+
+	/**
+	 * @return hull of the union of the hulls a and b, which may overlap, with collinear boundary
+	 *         points if keepCollinear
+	 */
+	private static PointStore mergeTwo(PointStore a, PointStore b, boolean keepCollinear)
+	{
+		PointStore sa = bottomUp(a);
+		PointStore sb = bottomUp(b);
+		int na = sa.size();
+		int nb = sb.size();
+		PointStore sorted = new PointStore(na + nb);
+		int i = 0;
+		int j = 0;
+		while (i < na || j < nb)
+		{
+			int c = i == na ? 1 : j == nb ? -1 : compare(sa, i, sb, j);
+			if (c <= 0)
+			{
+				sorted.add(sa.getX(i), sa.getY(i));
+				i++;
+				if (c == 0)
+					j++;  // shared vertex
+			}
+			else
+			{
+				sorted.add(sb.getX(j), sb.getY(j));
+				j++;
+			}
+		}
+		if (sorted.isEmpty())
+			return sorted;
+
+		int[] chain = new int[2 * sorted.size()];
+		int count = MonotoneChain.chainHull(sorted, 0, sorted.size(), chain, 0, keepCollinear);
+		PointStore merged = new PointStore(count);
+		for (int k = 0; k < count; k++)
+		{
+			merged.add(sorted.getX(chain[k]), sorted.getY(chain[k]));
+		}
+		return merged;
+	}
+
+
+	/**
+	 * @return vertices of hull in bottom-up order: its right chain, from the lowest vertex up to
+	 *         the highest, merged with its left chain taken in reverse
+	 */
+	private static PointStore bottomUp(PointStore hull)
+	{
+		int n = hull.size();
+		PointStore sorted = new PointStore(n);
+		if (n == 0)
+			return sorted;
+		int top = highestVertex(hull);
+		int i = 0;         // right chain, upward
+		int j = n - 1;     // left chain, upward
+		while (i <= top || j > top)
+		{
+			if (j == top || (i <= top && compare(hull, i, hull, j) < 0))
+			{
+				sorted.add(hull.getX(i), hull.getY(i));
+				i++;
+			}
+			else
+			{
+				sorted.add(hull.getX(j), hull.getY(j));
+				j--;
+			}
+		}
+		return sorted;
+	}
+
+
+	/**
+	 * Compares s[i] with t[j] in the bottom-up order: by y-coordinate, then by x-coordinate.
+	 */
+	private static int compare(PointStore s, int i, PointStore t, int j)
+	{
+		if (s.getY(i) != t.getY(j))
+			return Integer.compare(s.getY(i), t.getY(j));
+		return Integer.compare(s.getX(i), t.getX(j));
+	}
+
+
+	/**
+	 * Returns the convex hull of the union of two hulls such that every vertex of lower precedes
+	 * every vertex of upper in the bottom-up order.
+	 *
+	 * @param lower
+	 * @param upper
+	 * @return vertices of the merged hull, counterclockwise from the lowest vertex
+	 */
+	public static Point[] mergeAdjacent(Point[] lower, Point[] upper)
+	{
+		return mergeAdjacent(new PointStore(lower), new PointStore(upper)).toPoints();
+	}
+
+
+	/**
+	 * Same as mergeAdjacent(Point[], Point[]) for hulls stored in PointStores.
+	 *
+	 * The right bridge runs from a vertex of lower to a vertex of upper, the left bridge back
+	 * down; no vertex lies to the right of either.  Both walks start from the highest vertex of
+	 * lower and the lowest vertex of upper, and move the end on upper counterclockwise (right
+	 * bridge) or clockwise (left bridge), and the end on lower the other way, for as long as the
+	 * next vertex lies to the right of the bridge.  A next vertex on the line of the bridge and
+	 * beyond its end is taken as well, so that the merged hull has no collinear vertices.
+	 *
+	 * @param lower
+	 * @param upper
+	 * @return vertices of the merged hull, counterclockwise from the lowest vertex
+	 */
+	public static PointStore mergeAdjacent(PointStore lower, PointStore upper)
+	{
+		int na = lower.size();
+		int nb = upper.size();
+		if (na == 0)
+			return new PointStore(upper);
+		if (nb == 0)
+			return new PointStore(lower);
+
+		int top = highestVertex(lower);
+
+		// right bridge, from lower[ra] to upper[rb]
+		int ra = top;
+		int rb = 0;
+		boolean moved = true;
+		while (moved)
+		{
+			moved = false;
+			while (outside(upper, rb, lower, ra, upper, (rb + 1) % nb, false))
+			{
+				rb = (rb + 1) % nb;
+				moved = true;
+			}
+			while (outside(upper, rb, lower, ra, lower, (ra + na - 1) % na, true))
+			{
+				ra = (ra + na - 1) % na;
+				moved = true;
+			}
+		}
+
+		// left bridge, from upper[lb] to lower[la]
+		int la = top;
+		int lb = 0;
+		moved = true;
+		while (moved)
+		{
+			moved = false;
+			while (outside(lower, la, upper, lb, upper, (lb + nb - 1) % nb, true))
+			{
+				lb = (lb + nb - 1) % nb;
+				moved = true;
+			}
+			while (outside(lower, la, upper, lb, lower, (la + 1) % na, false))
+			{
+				la = (la + 1) % na;
+				moved = true;
+			}
+		}
+
+		// lower up to the right bridge, upper between the bridges, lower after the left bridge
+		PointStore merged = new PointStore(na + nb);
+		for (int i = 0; i <= ra; i++)
+		{
+			merged.add(lower.getX(i), lower.getY(i));
+		}
+		for (int i = rb; ; i = (i + 1) % nb)
+		{
+			merged.add(upper.getX(i), upper.getY(i));
+			if (i == lb)
+				break;
+		}
+		for (int i = la; i > 0 && i < na; i++)
+		{
+			merged.add(lower.getX(i), lower.getY(i));
+		}
+		return merged;
+	}
+
+
+	/**
+	 * @return index of the highest vertex of hull, the rightmost one in case of a tie
+	 */
+	private static int highestVertex(PointStore hull)
+	{
+		int top = 0;
+		for (int i = 1; i < hull.size(); i++)
+		{
+			if (compare(hull, i, hull, top) > 0)
+				top = i;
+		}
+		return top;
+	}
+
+
+	/**
+	 * Tells whether the candidate r = rs[r] should replace one end of the bridge between
+	 * p = ps[p] and q = qs[q], i.e. whether r lies strictly to the left of the line from p to q,
+	 * or on that line beyond the end that r would replace: q if beyondQ, p otherwise.
+	 */
+	private static boolean outside(PointStore ps, int p, PointStore qs, int q, PointStore rs, int r, boolean beyondQ)
+	{
+		int px = ps.getX(p);
+		int py = ps.getY(p);
+		int qx = qs.getX(q);
+		int qy = qs.getY(q);
+		int rx = rs.getX(r);
+		int ry = rs.getY(r);
+		long cross = PolarAngleComparator.crossProduct(px, py, qx, qy, rx, ry);
+		if (cross != 0)
+			return cross > 0;
+		if (beyondQ)
+			return PolarAngleComparator.dotProduct(qx, qy, px, py, rx, ry) < 0;
+		return PolarAngleComparator.dotProduct(px, py, qx, qy, rx, ry) < 0;
+	}
+}
@@ -0,0 +1,200 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *
+ * Options for the preparation of the input that ConvexHull does in its constructors, before any
+ * algorithm runs.  They are passed to the constructor of an engine, e.g.
+ *
+ *     HullOptions options = new HullOptions();
+ *     options.setPreFilter(true);
+ *     ConvexHull hull = new MonotoneChain(pts, options);
+ *
+ * The engine keeps a copy, so later changes to the options object affect only engines
+ * constructed afterwards, and engines constructed with different options, in the same thread or
+ * in different ones, do not affect each other.  The constructors without options use the
+ * defaults.
+ *
+ */
+public class HullOptions
+{
+	private boolean preFilter = false;
+
+	private boolean radixSort = true;
+
+	private boolean angleKeySort = true;
+
+	private ForkJoinPool chunkedInput = null;
+
+	// pool and minimum size for which the engine's QuickSortPoints sorts in parallel
+	private ForkJoinPool sortPool = null;
+	private int sortThreshold = Integer.MAX_VALUE;
+
+	private boolean measureAllocation = false;
+
+
+	/**
+	 * Constructs the default options.
+	 */
+	public HullOptions()
+	{
+	}
+
+
+	/**
+	 * Constructs a copy of other.
+	 *
+	 * @param other
+	 */
+	public HullOptions(HullOptions other)
+	{
+		preFilter = other.preFilter;
+		radixSort = other.radixSort;
+		angleKeySort = other.angleKeySort;
+		chunkedInput = other.chunkedInput;
+		sortPool = other.sortPool;
+		sortThreshold = other.sortThreshold;
+		measureAllocation = other.measureAllocation;
+	}
+
+
+	/**
+	 * Turn the Akl-Toussaint pre-filter on or off.  When on, the points strictly inside the
+	 * Akl-Toussaint octagon are dropped before removeDuplicates() (see AklToussaintFilter).  The
+	 * filter only drops points that are strictly inside the convex hull, so it never changes
+	 * hullVertices[], but pointsNoDuplicate then holds only the remaining points.  Off by default.
+	 *
+	 * @param enabled
+	 */
+	public void setPreFilter(boolean enabled)
+	{
+		preFilter = enabled;
+	}
+
+
+	public boolean isPreFilter()
+	{
+		return preFilter;
+	}
+
+
+	/**
+	 * Choose how removeDuplicates() sorts the points: with RadixSortPoints on packed long keys,
+	 * or with the engine's QuickSortPoints and a YComparator.  Both produce the same
+	 * pointsNoDuplicate.  On by default.
+	 *
+	 * @param enabled
+	 */
+	public void setRadixSort(boolean enabled)
+	{
+		radixSort = enabled;
+	}
+
+
+	public boolean isRadixSort()
+	{
+		return radixSort;
+	}
+
+
+	/**
+	 * Read input files with a ChunkedPointReader on the given pool, which keeps only the points
+	 * on the boundary of the convex hull of the input, collinear ones included, or with a
+	 * MappedPointReader if pool is null (the default).  hullVertices[] is the same either way, for
+	 * every engine, but with a pool pointsNoDuplicate holds only those boundary points.
+	 *
+	 * @param pool
+	 */
+	public void setChunkedInput(ForkJoinPool pool)
+	{
+		chunkedInput = pool;
+	}
+
+
+	/**
+	 * @return pool on which input files are read in chunks, or null
+	 */
+	public ForkJoinPool getChunkedInput()
+	{
+		return chunkedInput;
+	}
+
+
+	/**
+	 * Choose how GrahamScan sorts the points by polar angle: on precomputed angle keys with
+	 * PolarAngleKeySort, or with the engine's QuickSortPoints and a PolarAngleComparator.  Both
+	 * give the same order.  On by default.
+	 *
+	 * @param enabled
+	 */
+	public void setAngleKeySort(boolean enabled)
+	{
+		angleKeySort = enabled;
+	}
+
+
+	public boolean isAngleKeySort()
+	{
+		return angleKeySort;
+	}
+
+
+	/**
+	 * Make the engine's QuickSortPoints sort in parallel on pool whenever there are at least
+	 * threshold points (see QuickSortPoints.setParallelism()).  This applies to removeDuplicates()
+	 * with radix sorting off, and to the polar angle sort of GrahamScan with angle key sorting
+	 * off.  A null pool, the default, turns parallel sorting off.
+	 *
+	 * @param pool
+	 * @param threshold
+	 */
+	public void setSortParallelism(ForkJoinPool pool, int threshold)
+	{
+		sortPool = pool;
+		sortThreshold = threshold;
+	}
+
+
+	/**
+	 * @return pool on which the engine sorts in parallel, or null
+	 */
+	public ForkJoinPool getSortPool()
+	{
+		return sortPool;
+	}
+
+
+	/**
+	 * @return minimum number of points for which the engine sorts in parallel
+	 */
+	public int getSortThreshold()
+	{
+		return sortThreshold;
+	}
+
+
+	/**
+	 * Make GrahamScan measure the bytes its scan loop allocates, for GrahamScan.getScanAllocation().
+	 * The measurement asks the JVM for the allocation count of the current thread before and after
+	 * the loop, so it is meant for benchmarks such as CompareHullAlgorithms.  Off by default.
+	 *
+	 * @param enabled
+	 */
+	public void setMeasureAllocation(boolean enabled)
+	{
+		measureAllocation = enabled;
+	}
+
+
+	public boolean isMeasureAllocation()
+	{
+		return measureAllocation;
+	}
+}
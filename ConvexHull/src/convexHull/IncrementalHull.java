@@ -0,0 +1,190 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.TreeSet;
+
+/**
+ *
+ * Convex hull of a set of points that grows one point at a time.
+ *
+ * The hull is kept as its right chain and its left chain, the two halves that MonotoneChain builds:
+ * both run from lowestPoint up to the highest point (the rightmost one in case of a tie), the
+ * right chain with strict left turns and the left chain with strict right turns.  Each chain is a
+ * TreeSet of its vertices in the bottom-up order of Point.compareTo(), so the two vertices between
+ * which a point falls are found in O(log h) time.
+ *
+ * contains() compares a point with the edge of each chain between those two vertices.  add()
+ * discards a point that the hull contains; otherwise it inserts the point into each chain it lies
+ * outside of and walks from it in both directions, removing the vertices that no longer make a
+ * strict turn until it reaches the tangents from the new point.  Every vertex is removed at most
+ * once, so add() takes O(log h) amortized time.
+ *
+ * Coordinates must lie within ConvexHull.MAX_COORDINATE in absolute value, as for the engines;
+ * add() rejects any other point.
+ *
+ */
+public class IncrementalHull implements PointSink
+{
+	private TreeSet<Point> rightChain = new TreeSet<Point>();
+
+	private TreeSet<Point> leftChain = new TreeSet<Point>();
+
+
+	/**
+	 * Adds the point (x, y).
+	 *
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void add(int x, int y) throws IllegalArgumentException
+	{
+		add(new Point(x, y));
+	}
+
+
+	/**
+	 * Adds the point p.
+	 *
+	 * @param p
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void add(Point p) throws IllegalArgumentException
+	{
+		ConvexHull.checkRange(p.getX(), p.getY());
+		insert(rightChain, p, 1);
+		insert(leftChain, p, -1);
+	}
+
+
+	/**
+	 * @return true if (x, y) lies inside or on the boundary of the hull
+	 */
+	public boolean contains(int x, int y)
+	{
+		return contains(new Point(x, y));
+	}
+
+
+	/**
+	 * @return true if p lies inside or on the boundary of the hull
+	 */
+	public boolean contains(Point p)
+	{
+		return !outside(rightChain, p, 1) && !outside(leftChain, p, -1);
+	}
+
+
+	public boolean isEmpty()
+	{
+		return rightChain.isEmpty();
+	}
+
+
+	/**
+	 * @return number of hull vertices
+	 */
+	public int size()
+	{
+		int n = rightChain.size() + leftChain.size() - 2;
+		return Math.max(n, rightChain.size());
+	}
+
+
+	/**
+	 * @return the lowest point added, the leftmost one in case of a tie; null if there is none
+	 */
+	public Point getLowestPoint()
+	{
+		return rightChain.isEmpty() ? null : rightChain.first();
+	}
+
+
+	/**
+	 * @return vertices of the hull in counterclockwise order starting at lowestPoint, as in
+	 *         ConvexHull.hullVertices[], with no collinear vertices
+	 */
+	public Point[] getHullVertices()
+	{
+		Point[] vertices = new Point[size()];
+		int i = 0;
+		for (Point p : rightChain)
+		{
+			vertices[i++] = p;
+		}
+		// the left chain downward, without the two ends it shares with the right chain
+		for (Point p : leftChain.descendingSet())
+		{
+			if (p != leftChain.first() && p != leftChain.last())
+				vertices[i++] = p;
+		}
+		return vertices;
+	}
+
+
+	/**
+	 * Tells whether p lies strictly outside chain, i.e. below its lowest point, above its
+	 * highest point, or on the outer side of its edge at the height of p.  The outer side is the
+	 * right of the edge upward for turn == 1 (right chain) and the left for turn == -1 (left
+	 * chain).
+	 */
+	private static boolean outside(TreeSet<Point> chain, Point p, int turn)
+	{
+		if (chain.isEmpty())
+			return true;
+		Point lo = chain.floor(p);
+		Point hi = chain.ceiling(p);
+		if (lo == null || hi == null)
+			return true;
+		if (lo.equals(p))
+			return false;
+		return turn * cross(lo, hi, p) < 0;
+	}
+
+
+	/**
+	 * Inserts p into chain if it lies outside, and removes the vertices that then fail to make
+	 * a strict turn in the direction of turn.
+	 */
+	private static void insert(TreeSet<Point> chain, Point p, int turn)
+	{
+		if (!outside(chain, p, turn))
+			return;
+		chain.add(p);
+
+		// walk down from p to the lower tangent
+		Point a = chain.lower(p);
+		while (a != null)
+		{
+			Point b = chain.lower(a);
+			if (b == null || turn * cross(b, a, p) > 0)
+				break;
+			chain.remove(a);
+			a = b;
+		}
+
+		// walk up from p to the upper tangent
+		a = chain.higher(p);
+		while (a != null)
+		{
+			Point b = chain.higher(a);
+			if (b == null || turn * cross(p, a, b) > 0)
+				break;
+			chain.remove(a);
+			a = b;
+		}
+	}
+
+
+	/**
+	 * @return cross product of b - a and c - a; positive if c lies to the left of the line from a
+	 *         through b
+	 */
+	private static long cross(Point a, Point b, Point c)
+	{
+		return PolarAngleComparator.crossProduct(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY());
+	}
+}
@@ -0,0 +1,143 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Stack of primitive ints with the operations of PureStack, backed by an
+ * expandable int array.  Used by the hull engines for stacks of indices
+ * into pointsNoDuplicate, where ArrayBasedStack would box every element.
+ * clear() keeps the backing array, so one stack can be reused across many
+ * hulls without allocating.
+ */
+public class IntStack
+{
+  private static final int DEFAULT_SIZE = 10;
+
+  /**
+   * Index of next available cell in array.
+   */
+  private int top;
+
+  /**
+   * The data store.
+   */
+  private int[] data;
+
+  /**
+   * Constructs an empty stack.
+   */
+  public IntStack()
+  {
+    this(DEFAULT_SIZE);
+  }
+
+  /**
+   * Constructs an empty stack that holds capacity elements before
+   * it has to grow.
+   */
+  public IntStack(int capacity)
+  {
+    data = new int[Math.max(capacity, 1)];
+  }
+
+  public boolean isEmpty()
+  {
+    return top == 0;
+  }
+
+  public int peek()
+  {
+    if (top == 0) throw new NoSuchElementException();
+    return data[top - 1];
+  }
+
+  /**
+   * Returns the element k positions below the top without removing
+   * anything; peek(0) is the same as peek().  Throws
+   * NoSuchElementException if the stack has no such element.
+   */
+  public int peek(int k)
+  {
+    if (k < 0 || k >= top) throw new NoSuchElementException();
+    return data[top - 1 - k];
+  }
+
+  public int pop()
+  {
+    if (top == 0) throw new NoSuchElementException();
+    return data[--top];
+  }
+
+  public void push(int item)
+  {
+    checkCapacity();
+    data[top++] = item;
+  }
+
+  public int size()
+  {
+    return top;
+  }
+
+  /**
+   * Returns the number of elements the stack holds before it has to
+   * grow.
+   */
+  public int capacity()
+  {
+    return data.length;
+  }
+
+  /**
+   * Removes all elements.  The backing array is kept.
+   */
+  public void clear()
+  {
+    top = 0;
+  }
+
+  /**
+   * Grows the backing array, if necessary, so that the stack holds
+   * capacity elements without growing again.
+   */
+  public void ensureCapacity(int capacity)
+  {
+    if (capacity > data.length)
+    {
+      data = Arrays.copyOf(data, capacity);
+    }
+  }
+
+  /**
+   * Removes all elements and returns them in an array, bottom of the
+   * stack first.
+   */
+  public int[] toArray()
+  {
+    int[] ret = Arrays.copyOf(data, top);
+    top = 0;
+    return ret;
+  }
+
+  /**
+   * Ensures that the backing array has space to store at least
+   * one additional element.
+   */
+  private void checkCapacity()
+  {
+    if (top == data.length)
+    {
+      // create a copy of the data array with double the capacity
+      data = Arrays.copyOf(data, data.length * 2);
+    }
+  }
+
+}
@@ -0,0 +1,191 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.nio.ByteBuffer;
+import java.text.DecimalFormatSymbols;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ *
+ * Reads whitespace separated integers from a range of bytes, with the hasNextInt() / nextInt()
+ * interface of java.util.Scanner but without regular expressions or intermediate Strings.
+ *
+ * Tokens are accepted as integers exactly when Scanner accepts them for ASCII input: an optional
+ * sign, decimal digits, and optionally the grouping separator of the default locale between
+ * groups of three digits, the first group not starting with 0, e.g. "1,000" in English locales;
+ * the value must fit in an int.  As with
+ * Scanner, hasNextInt() returns false at the first token that is not an integer, which is not
+ * consumed.  Whitespace is the ASCII whitespace of Character.isWhitespace(); bytes of non-ASCII
+ * characters are always part of a token.
+ *
+ */
+public class IntTokenizer
+{
+	private static final byte GROUPING_SEPARATOR = groupingSeparator();
+
+	private final ByteBuffer buf;
+	private final int end;
+	private int pos;             // start of the next token, or some whitespace before it
+
+	// the next token, once scanned: [tokenStart, tokenEnd), and its value if it is an integer
+	private boolean scanned;
+	private int tokenStart;
+	private int tokenEnd;
+	private boolean isInt;
+	private int value;
+
+
+	/**
+	 * Reads the tokens in buf[from] ... buf[to - 1].  The position and limit of buf are not used.
+	 *
+	 * @param buf
+	 * @param from
+	 * @param to
+	 */
+	public IntTokenizer(ByteBuffer buf, int from, int to)
+	{
+		this.buf = buf;
+		this.pos = from;
+		this.end = to;
+	}
+
+
+	/**
+	 * @return true if there is another token, whether an integer or not
+	 */
+	public boolean hasNext()
+	{
+		scan();
+		return tokenStart < end;
+	}
+
+
+	/**
+	 * @return true if the next token is an integer
+	 */
+	public boolean hasNextInt()
+	{
+		scan();
+		return isInt;
+	}
+
+
+	/**
+	 * @return the next token as an integer
+	 * @throws NoSuchElementException  if there are no more tokens
+	 * @throws InputMismatchException  if the next token is not an integer; it is not consumed
+	 */
+	public int nextInt() throws NoSuchElementException, InputMismatchException
+	{
+		scan();
+		if (tokenStart == end)
+			throw new NoSuchElementException();
+		if (!isInt)
+			throw new InputMismatchException();
+		pos = tokenEnd;
+		scanned = false;
+		return value;
+	}
+
+
+	/**
+	 * @return true if b is ASCII whitespace in the sense of Character.isWhitespace()
+	 */
+	static boolean isWhitespace(byte b)
+	{
+		return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+	}
+
+
+	/**
+	 * Finds the next token and parses it, unless that has been done already.
+	 */
+	private void scan()
+	{
+		if (scanned)
+			return;
+		scanned = true;
+		int i = pos;
+		while (i < end && isWhitespace(buf.get(i)))
+			i++;
+		tokenStart = i;
+		while (i < end && !isWhitespace(buf.get(i)))
+			i++;
+		tokenEnd = i;
+		isInt = tokenStart < end && parse(tokenStart, tokenEnd);
+	}
+
+
+	/**
+	 * Parses the token buf[from] ... buf[to - 1] into value.
+	 *
+	 * @return false if the token is not an integer
+	 */
+	private boolean parse(int from, int to)
+	{
+		int i = from;
+		boolean negative = false;
+		byte c = buf.get(i);
+		if (c == '-' || c == '+')
+		{
+			negative = c == '-';
+			i++;
+		}
+		if (i == to)
+			return false;
+
+		long v = 0;
+		int digits = 0;          // digits since the start or the last grouping separator
+		boolean grouped = false;
+		for (; i < to; i++)
+		{
+			c = buf.get(i);
+			if (c >= '0' && c <= '9')
+			{
+				v = 10 * v + (c - '0');
+				if (v > 1L << 31)
+					return false;
+				digits++;
+			}
+			else if (c == GROUPING_SEPARATOR && GROUPING_SEPARATOR != 0)
+			{
+				// as in Scanner, the first group is 1 to 3 digits not starting with 0
+				if (grouped ? digits != 3 : digits < 1 || digits > 3 || buf.get(i - digits) == '0')
+					return false;
+				grouped = true;
+				digits = 0;
+			}
+			else
+			{
+				return false;
+			}
+		}
+		if (digits == 0 || (grouped && digits != 3))
+			return false;
+		if (negative)
+			v = -v;
+		if (v > Integer.MAX_VALUE)
+			return false;
+		value = (int) v;
+		return true;
+	}
+
+
+	/**
+	 * @return grouping separator of the default locale, which Scanner accepts in integers, or 0
+	 *         if it is not a printable ASCII character
+	 */
+	private static byte groupingSeparator()
+	{
+		char c = DecimalFormatSymbols.getInstance().getGroupingSeparator();
+		if (c <= ' ' || c >= 0x7F || (c >= '0' && c <= '9') || c == '-' || c == '+')
+			return 0;
+		return (byte) c;
+	}
+}
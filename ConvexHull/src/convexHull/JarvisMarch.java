@@ -8,17 +8,41 @@ package convexHull;
 
 import java.io.FileNotFoundException;
 import java.util.InputMismatchException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class JarvisMarch extends ConvexHull
 {
-	// last element in pointsNoDuplicate(), i.e., highest of all points (and the rightmost one in case of a tie)
-	private Point highestPoint; 
+	// index of the last element in pointsNoDuplicate, i.e., highest of all points (and the rightmost 
+	// one in case of a tie); lowestPoint is at index 0
+	private int highestPoint; 
 	
-	// left chain of th
-	private PureStack<Point> leftChain; 
+	// left chain of the convex hull, as indices into pointsNoDuplicate
+	private IntStack leftChain; 
 	
-	// right chain o
-	private PureStack<Point> rightChain;
+	// right chain of the convex hull, as indices into pointsNoDuplicate
+	private IntStack rightChain;
+	
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 16; 
+	
+	// pool on which nextVertex() scans the chunks of pointsNoDuplicate; null for a sequential scan 
+	private ForkJoinPool pool = null; 
+	
+	private int chunkSize = DEFAULT_CHUNK_SIZE;   // number of points per chunk 
+	
+	// chunks of pointsNoDuplicate, split once and reused for every vertex; null until needed 
+	private ChunkScan[] chunks; 
+	
+	// working set of the chain under construction, as indices into pointsNoDuplicate; every 
+	// chunk keeps its candidates at the start of its own range of this array 
+	private int[] candidates; 
+	
+	// number of points scanned for each vertex, collected by constructHull() 
+	private IntStack steps = new IntStack(); 
+	private int[] workingSetSizes; 
+	
+	// runs all chunks in the pool; reused for every vertex 
+	private ScanAll scanAll; 
 		
 
 	/**
@@ -30,13 +54,55 @@ public class JarvisMarch extends ConvexHull
 	 */
 	public JarvisMarch(Point[] pts) throws IllegalArgumentException 
 	{
-		super(pts); 
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as JarvisMarch(Point[]), with the given options instead of the defaults.
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  when pts.length == 0
+	 */
+	public JarvisMarch(Point[] pts, HullOptions options) throws IllegalArgumentException 
+	{
+		super(pts, options); 
 		algorithm  = "Jarvis March";
-		highestPoint = pointsNoDuplicate[pointsNoDuplicate.length-1];
-		leftChain = new ArrayBasedStack<Point>();
-		rightChain = new ArrayBasedStack<Point>();
+		highestPoint = pointsNoDuplicate.size()-1;
+		leftChain = new IntStack();
+		rightChain = new IntStack();
 		
 	}
+	
+	
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm. 
+	 * Set highestPoint.  Initialize leftChain and rightChain.  
+	 * 
+	 * @throws IllegalArgumentException  when pts is empty
+	 */
+	public JarvisMarch(PointStore pts) throws IllegalArgumentException 
+	{
+		this(pts, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as JarvisMarch(PointStore), with the given options instead of the defaults.
+	 * 
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  when pts is empty
+	 */
+	public JarvisMarch(PointStore pts, HullOptions options) throws IllegalArgumentException 
+	{
+		super(pts, options); 
+		algorithm  = "Jarvis March";
+		highestPoint = pointsNoDuplicate.size()-1;
+		leftChain = new IntStack();
+		rightChain = new IntStack();
+	}
 
 	
 	/**
@@ -49,14 +115,83 @@ public class JarvisMarch extends ConvexHull
 	 */
 	public JarvisMarch(String inputFileName) throws FileNotFoundException, InputMismatchException
 	{
-		super(inputFileName); 
+		this(inputFileName, new HullOptions());
+	}
+	
+	
+	/**
+	 * Same as JarvisMarch(String), with the given options instead of the defaults.
+	 * 
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public JarvisMarch(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options); 
 		algorithm  = "Jarvis March";
-		highestPoint = pointsNoDuplicate[pointsNoDuplicate.length-1];
-		leftChain = new ArrayBasedStack<Point>();
-		rightChain = new ArrayBasedStack<Point>();
+		highestPoint = pointsNoDuplicate.size()-1;
+		leftChain = new IntStack();
+		rightChain = new IntStack();
 	}
 
 
+	/**
+	 * Use the given stacks as rightChain and leftChain, e.g. to share them among many hulls 
+	 * built one after another.  They are cleared by constructHull(). 
+	 * 
+	 * @param right
+	 * @param left
+	 */
+	public void setChainStacks(IntStack right, IntStack left)
+	{
+		rightChain = right;
+		leftChain = left;
+	}
+	
+	
+	/**
+	 * Scan the points for the next vertex in parallel on the given pool, in chunks of 
+	 * chunkSize points.  With pool == null, which is the default, the scan is sequential.
+	 * 
+	 * @param pool
+	 */
+	public void setPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+		chunks = null;
+	}
+	
+	
+	/**
+	 * Number of points per chunk of the parallel scan. 
+	 * 
+	 * @param chunkSize
+	 * @throws IllegalArgumentException  if chunkSize < 1
+	 */
+	public void setChunkSize(int chunkSize) throws IllegalArgumentException
+	{
+		if (chunkSize < 1)
+			throw new IllegalArgumentException("chunk size must be positive");
+		this.chunkSize = chunkSize;
+		chunks = null;
+	}
+	
+	
+	/**
+	 * Size of the working set in every step of the last constructHull(), i.e. the number of 
+	 * points scanned for each new vertex: first those of the right chain, then those of the 
+	 * left chain. 
+	 * 
+	 * @return  null if constructHull() has not been called
+	 */
+	public int[] getWorkingSetSizes()
+	{
+		return workingSetSizes;
+	}
+	
+	
 	// ------------
 	// Javis' march
 	// ------------
@@ -67,7 +202,7 @@ public class JarvisMarch extends ConvexHull
 	 * 
      * Two degenerate cases below must be handled: 
      * 
-     *     1) The array pointsNoDuplicates[] contains just one point, in which case the convex
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
      *        hull is the point itself. 
      *     
      *     2) The array contains collinear points, in which case the hull is the line segment 
@@ -77,32 +212,36 @@ public class JarvisMarch extends ConvexHull
 	{
 		
 		long startTime = System.nanoTime();
-		if (pointsNoDuplicate.length == 1)
+		if (pointsNoDuplicate.size() == 1)
 		{
 			this.hullVertices = new Point[1];
-			hullVertices[0] = pointsNoDuplicate[0];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
 			return;
 		}
-		if (pointsNoDuplicate.length == 2)
+		if (pointsNoDuplicate.size() == 2)
 		{
 			this.hullVertices = new Point[2];
-			hullVertices[0] = pointsNoDuplicate[0];
-			hullVertices[1] = pointsNoDuplicate[1];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
+			hullVertices[1] = pointsNoDuplicate.toPoint(1);
 			return;
 		}
+		rightChain.clear();
+		leftChain.clear();
+		steps.clear();
 		this.createRightChain();
 		this.createLeftChain();
+		workingSetSizes = steps.toArray();
 		
 		hullVertices = new Point[rightChain.size() + leftChain.size()];
 		int i = hullVertices.length - 1;
 		while (!leftChain.isEmpty())
 		{
-			hullVertices[i] = leftChain.pop();
+			hullVertices[i] = pointsNoDuplicate.toPoint(leftChain.pop());
 			i--;
 		}
 		while (!rightChain.isEmpty())
 		{
-			hullVertices[i] = rightChain.pop();
+			hullVertices[i] = pointsNoDuplicate.toPoint(rightChain.pop());
 			i--;
 		}
 		long endTime = System.nanoTime();
@@ -116,17 +255,23 @@ public class JarvisMarch extends ConvexHull
 	 * to determine the next vertex, which has the smallest polar angle with respect to v.  Stop 
 	 * when the highest point is reached.  
 	 * 
+	 * The rest of the right chain lies on or to the right of the line from v to the highest 
+	 * point, so every step drops the points to the left of this line from the working set: 
+	 * those of the left side of the hull in the first step, and those inside the part of the 
+	 * hull found so far afterwards. 
+	 * 
 	 * Use the stack rightChain to carry out the operation.  
 	 * 
 	 * Ought to be private, but is made public for testing convenience. 
 	 */
 	public void createRightChain()
 	{
-		rightChain.push(lowestPoint);
-		while (!rightChain.peek().equals(highestPoint))
+		resetWorkingSet();
+		rightChain.push(0);
+		while (rightChain.peek() != highestPoint)
 		{
-			Point curVer = rightChain.peek();
-			Point nextVer = nextVertex(curVer);
+			int curVer = rightChain.peek();
+			int nextVer = nextVertex(curVer, highestPoint);
 			rightChain.push(nextVer);
 		}
 		rightChain.pop();
@@ -135,7 +280,8 @@ public class JarvisMarch extends ConvexHull
 	
 	/**
 	 * Construct the left chain of the convex hull.  Starts at highestPoint and continues the 
-	 * counterclockwise wrapping.  Stop when lowestPoint is reached.  
+	 * counterclockwise wrapping.  Stop when lowestPoint is reached.  The working set shrinks as 
+	 * in createRightChain(), with lowestPoint as the end of the chain. 
 	 * 
 	 * Use the stack leftChain to carry out the operation. 
 	 * 
@@ -143,11 +289,12 @@ public class JarvisMarch extends ConvexHull
 	 */
 	public void createLeftChain()
 	{
+		resetWorkingSet();
 		leftChain.push(highestPoint);
-		while (!leftChain.peek().equals(lowestPoint))
+		while (leftChain.peek() != 0)
 		{
-			Point curVer = leftChain.peek();
-			Point nextVer = nextVertex(curVer);
+			int curVer = leftChain.peek();
+			int nextVer = nextVertex(curVer, 0);
 			leftChain.push(nextVer);
 		}
 		leftChain.pop();
@@ -167,16 +314,207 @@ public class JarvisMarch extends ConvexHull
 	 */
 	public Point nextVertex(Point v)
 	{
-		PolarAngleComparator comp = new PolarAngleComparator(v, false);
-		Point p1 = pointsNoDuplicate[0];
-		 for (int i = 1; i < pointsNoDuplicate.length; i++)
-		 {
-			 Point p2 = pointsNoDuplicate[i];
-			 if (comp.compare(p1, p2) > 0)
-			 {
-				 p1 = p2;
-			 }
-		 }
-		 return p1;
+		int next = scan(v.getX(), v.getY(), 0, pointsNoDuplicate.size());
+		return pointsNoDuplicate.toPoint(next);
+	}
+	
+	
+	/**
+	 * Puts all points back into the working set, split into chunks if a pool is set.  The 
+	 * chunks are created by the first call and reused afterwards. 
+	 */
+	private void resetWorkingSet()
+	{
+		int n = pointsNoDuplicate.size();
+		if (chunks == null)
+		{
+			int size = pool == null ? n : chunkSize;
+			chunks = new ChunkScan[(n + size - 1) / size];
+			for (int i = 0; i < chunks.length; i++)
+			{
+				chunks[i] = new ChunkScan(i * size, (int) Math.min((long) (i + 1) * size, n));
+			}
+			scanAll = new ScanAll();
+			candidates = new int[n];
+		}
+		for (int i = 0; i < n; i++)
+		{
+			candidates[i] = i;
+		}
+		for (ChunkScan chunk : chunks)
+		{
+			chunk.live = chunk.to - chunk.from;
+		}
+	}
+	
+	
+	/**
+	 * Same as nextVertex(Point) for the current vertex with index v, restricted to the working 
+	 * set.  First drops from the working set the points strictly to the left of the line from v 
+	 * to the end of the chain under construction, then scans the remaining points, in parallel 
+	 * if a pool is set and there is more than one chunk.  The chunk results are reduced in chunk 
+	 * order with the same test as the sequential scan, so both return the same vertex. 
+	 * 
+	 * @param v    index of the current vertex
+	 * @param end  index of the last vertex of the chain, highestPoint or lowestPoint
+	 * @return     index of the next vertex
+	 */
+	private int nextVertex(int v, int end)
+	{
+		int vx = pointsNoDuplicate.getX(v);
+		int vy = pointsNoDuplicate.getY(v);
+		int scanned = 0;
+		for (ChunkScan chunk : chunks)
+		{
+			chunk.reinitialize();
+			chunk.vx = vx;
+			chunk.vy = vy;
+			chunk.ex = pointsNoDuplicate.getX(end);
+			chunk.ey = pointsNoDuplicate.getY(end);
+			scanned += chunk.live;
+		}
+		steps.push(scanned);
+		if (pool == null || chunks.length == 1)
+		{
+			for (ChunkScan chunk : chunks)
+				chunk.compute();
+		}
+		else
+		{
+			scanAll.reinitialize();
+			pool.invoke(scanAll);
+		}
+		
+		int p1 = -1;
+		long x1 = 0;
+		long y1 = 0;
+		for (ChunkScan chunk : chunks)
+		{
+			int p2 = chunk.best;
+			if (p2 < 0)
+				continue;
+			long x2 = (long) pointsNoDuplicate.getX(p2) - vx;
+			long y2 = (long) pointsNoDuplicate.getY(p2) - vy;
+			if (p1 < 0 || replaces(x1, y1, x2, y2))
+			{
+				p1 = p2;
+				x1 = x2;
+				y1 = y2;
+			}
+		}
+		return p1;
+	}
+	
+	
+	/**
+	 * Scans pointsNoDuplicate[from] ... pointsNoDuplicate[to - 1] for the next vertex after the 
+	 * current vertex (vx, vy). 
+	 * 
+	 * The scan runs on primitive coordinates taken relative to the current vertex, keeps those 
+	 * of the best point so far in locals, and tests orientation inline, so the loop body is a 
+	 * few multiplications and a branch that is rarely taken. 
+	 * 
+	 * @return index of the best point in the range
+	 */
+	private int scan(int vx, int vy, int from, int to)
+	{
+		int p1 = from;
+		long x1 = (long) pointsNoDuplicate.getX(from) - vx;
+		long y1 = (long) pointsNoDuplicate.getY(from) - vy;
+		for (int i = from + 1; i < to; i++)
+		{
+			long x2 = (long) pointsNoDuplicate.getX(i) - vx;
+			long y2 = (long) pointsNoDuplicate.getY(i) - vy;
+			if (replaces(x1, y1, x2, y2))
+			{
+				p1 = i;
+				x1 = x2;
+				y1 = y2;
+			}
+		}
+		return p1;
+	}
+	
+	
+	/**
+	 * Inline form of PolarAngleComparator(v, false).compare(p1, p2) > 0, i.e. whether the scan 
+	 * should move from p1 to p2, for the points p1 = v + (x1, y1) and p2 = v + (x2, y2). 
+	 */
+	private static boolean replaces(long x1, long y1, long x2, long y2)
+	{
+		if (x1 == x2 && y1 == y2)
+			return false;
+		long cross = x1 * y2 - x2 * y1;
+		return cross < 0 || (cross == 0 && x1 * x1 + y1 * y1 <= x2 * x2 + y2 * y2);
+	}
+	
+	
+	/**
+	 * One step of the march on a chunk of the working set: candidates[from] ... 
+	 * candidates[from + live - 1].  Drops the points strictly to the left of the line from the 
+	 * current vertex (vx, vy) to the end of the chain (ex, ey), compacting the others toward 
+	 * from, and finds the best of them in the same pass. 
+	 */
+	private class ChunkScan extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private final int from;
+		private final int to;
+		private int live;   // number of candidates left in the chunk
+		private int vx;
+		private int vy;
+		private int ex;
+		private int ey;
+		private int best;   // result: index of the best point in the chunk, -1 if there is none
+		
+		ChunkScan(int from, int to)
+		{
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			long chordX = (long) ex - vx;
+			long chordY = (long) ey - vy;
+			int kept = from;
+			int p1 = -1;
+			long x1 = 0;
+			long y1 = 0;
+			for (int k = from; k < from + live; k++)
+			{
+				int i = candidates[k];
+				long x2 = (long) pointsNoDuplicate.getX(i) - vx;
+				long y2 = (long) pointsNoDuplicate.getY(i) - vy;
+				if (chordX * y2 - chordY * x2 > 0)
+					continue;
+				candidates[kept++] = i;
+				if (p1 < 0 || replaces(x1, y1, x2, y2))
+				{
+					p1 = i;
+					x1 = x2;
+					y1 = y2;
+				}
+			}
+			live = kept - from;
+			best = p1;
+		}
+	}
+	
+	
+	/**
+	 * Runs all chunk scans and waits for them. 
+	 */
+	private class ScanAll extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		protected void compute()
+		{
+			invokeAll(chunks);
+		}
 	}
 }
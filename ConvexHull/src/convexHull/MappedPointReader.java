@@ -0,0 +1,108 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+
+/**
+ *
+ * Reads the points of an input file by memory-mapping it and parsing the integers straight from
+ * the mapped bytes with an IntTokenizer into a PointStore, without Strings or Point objects.
+ *
+ * The integers read are those that a Scanner with hasNextInt() / nextInt() would read: reading
+ * stops at the first token that is not an integer, and an odd number of integers up to there
+ * raises an InputMismatchException.  Files larger than a single mapping are mapped in windows,
+ * each ending right after a whitespace byte so that no integer is cut in two.
+ *
+ */
+public class MappedPointReader
+{
+	private static final int WINDOW_SIZE = 1 << 30;
+
+
+	/**
+	 * Reads the points of an input file.  Every pair of integers represent the x- and
+	 * y-coordinates of a point.
+	 *
+	 * @param  inputFileName
+	 * @return the points, in the order of the file
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public static PointStore read(String inputFileName) throws FileNotFoundException, InputMismatchException
+	{
+		PointStore store = new PointStore();
+		read(inputFileName, store);
+		return store;
+	}
+
+
+	/**
+	 * Same as read(String), but feeds the points to sink one at a time, in the order of the file.
+	 * When the file contains an odd number of integers, all points before the last integer have
+	 * been fed when the exception is raised.
+	 *
+	 * @param  inputFileName
+	 * @param  sink
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public static void read(String inputFileName, PointSink sink) throws FileNotFoundException, InputMismatchException
+	{
+		File file = new File(inputFileName);
+		if (!file.isFile())
+			throw new FileNotFoundException(inputFileName);
+		boolean pending = false;   // whether x holds an x-coordinate still waiting for its y
+		int x = 0;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			long offset = 0;
+			while (offset < size)
+			{
+				int length = (int) Math.min(WINDOW_SIZE, size - offset);
+				MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+				int end = length;
+				if (offset + length < size)
+				{
+					// end the window after its last whitespace byte
+					while (end > 0 && !IntTokenizer.isWhitespace(buf.get(end - 1)))
+						end--;
+					if (end == 0)
+						end = length;
+				}
+
+				IntTokenizer input = new IntTokenizer(buf, 0, end);
+				while (input.hasNextInt())
+				{
+					int value = input.nextInt();
+					if (pending)
+						sink.add(x, value);
+					else
+						x = value;
+					pending = !pending;
+				}
+				if (input.hasNext())
+					break;    // stopped at a token that is not an integer
+				offset += end;
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		if (pending)
+			throw new InputMismatchException("input file contains an odd number of integers");
+	}
+}
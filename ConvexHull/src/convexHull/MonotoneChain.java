@@ -0,0 +1,224 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.FileNotFoundException;
+import java.util.InputMismatchException;
+
+/**
+ *
+ * Andrew's monotone chain algorithm.  removeDuplicates() already leaves pointsNoDuplicate sorted
+ * bottom-up (by y-coordinate, then x-coordinate), which is all the algorithm needs: the right chain
+ * is built by scanning that order upward and the left chain by scanning it downward, with a single
+ * orientation test per step.  No polar angle sort is performed.
+ *
+ */
+public class MonotoneChain extends ConvexHull
+{
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public MonotoneChain(Point[] pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as MonotoneChain(Point[]), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public MonotoneChain(Point[] pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Monotone Chain";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public MonotoneChain(PointStore pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as MonotoneChain(PointStore), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public MonotoneChain(PointStore pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "Monotone Chain";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public MonotoneChain(String inputFileName) throws FileNotFoundException, InputMismatchException
+	{
+		this(inputFileName, new HullOptions());
+	}
+
+
+	/**
+	 * Same as MonotoneChain(String), with the given options instead of the defaults.
+	 *
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public MonotoneChain(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options);
+		algorithm = "Monotone Chain";
+	}
+
+
+	// -----------------------
+	// Andrew's monotone chain
+	// -----------------------
+
+	/**
+	 * Scan pointsNoDuplicate from lowestPoint up to the highest point to build the right chain,
+	 * then back down to lowestPoint to build the left chain.  A point on top of the chain is
+	 * popped while it does not make a strict left turn with the new point, so collinear points
+	 * are left out of the hull.  The vertices end up in counterclockwise order starting at
+	 * lowestPoint.
+	 *
+     * Two degenerate cases below must be handled:
+     *
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
+     *        hull is the point itself.  chainHull() returns it directly.
+     *
+     *     2) The array contains only collinear points, in which case the hull is the line segment
+     *        connecting the two extreme points.  Both chains then reduce to that segment.
+	 */
+	public void constructHull()
+	{
+		long startTime = System.nanoTime();
+		int n = pointsNoDuplicate.size();
+		int[] chain = new int[2 * n];  // indices of the hull vertices
+		int top = chainHull(pointsNoDuplicate, 0, n, chain, 0);
+
+		hullVertices = new Point[top];
+		for (int i = 0; i < top; i++)
+		{
+			hullVertices[i] = pointsNoDuplicate.toPoint(chain[i]);
+		}
+		long endTime = System.nanoTime();
+		this.time = endTime - startTime;
+	}
+
+
+	/**
+	 * Computes the convex hull of the points with indices from, ..., to - 1 in pts, which must be
+	 * distinct and sorted bottom-up.  The hull vertices are written to out[], starting at
+	 * out[offset], as indices into pts in counterclockwise order starting at pts[from].  out[]
+	 * must have room for 2 * (to - from) entries from offset on.
+	 *
+	 * Shared with ChanHull, which runs it on slices of pointsNoDuplicate.
+	 *
+	 * @return number of hull vertices written
+	 */
+	static int chainHull(PointStore pts, int from, int to, int[] out, int offset)
+	{
+		return chainHull(pts, from, to, out, offset, false);
+	}
+
+
+	/**
+	 * Same as chainHull(PointStore, int, int, int[], int) if keepCollinear is false.  Otherwise a
+	 * point is popped only on a strict right turn, so every point on the boundary of the hull is
+	 * written, collinear ones included.  If all the points are collinear, they are written in
+	 * bottom-up order.
+	 *
+	 * Used by ChunkedPointReader, whose hulls must keep the collinear points that GrahamScan
+	 * reports.
+	 *
+	 * @return number of points written
+	 */
+	static int chainHull(PointStore pts, int from, int to, int[] out, int offset, boolean keepCollinear)
+	{
+		if (to - from == 1)
+		{
+			out[offset] = from;
+			return 1;
+		}
+		int top = offset;
+
+		// right chain, from the lowest point up to the highest point
+		for (int i = from; i < to; i++)
+		{
+			while (top >= offset + 2 && popped(pts, out[top - 2], out[top - 1], i, keepCollinear))
+				top--;
+			out[top++] = i;
+		}
+
+		// with collinear points kept, the left chain of a segment would walk it back down
+		int rightEnd = top;
+		if (keepCollinear && rightEnd - offset == to - from && collinear(pts, from, to))
+			return to - from;
+
+		// left chain, from the highest point back down to the lowest point
+		for (int i = to - 2; i >= from; i--)
+		{
+			while (top > rightEnd && popped(pts, out[top - 2], out[top - 1], i, keepCollinear))
+				top--;
+			out[top++] = i;
+		}
+		return top - 1 - offset;  // the lowest point was pushed again at the end
+	}
+
+
+	/**
+	 * @return true if the point with index b in pts is to be popped when c follows a and b: if
+	 *         a, b, c make a right turn at b, or if they are collinear and keepCollinear is false
+	 */
+	private static boolean popped(PointStore pts, int a, int b, int c, boolean keepCollinear)
+	{
+		long cross = PolarAngleComparator.crossProduct(pts.getX(a), pts.getY(a),
+		                                               pts.getX(b), pts.getY(b),
+		                                               pts.getX(c), pts.getY(c));
+		return keepCollinear ? cross < 0 : cross <= 0;
+	}
+
+
+	/**
+	 * @return true if the points with indices from, ..., to - 1 in pts all lie on one line
+	 */
+	private static boolean collinear(PointStore pts, int from, int to)
+	{
+		int last = to - 1;
+		for (int i = from + 1; i < last; i++)
+		{
+			if (PolarAngleComparator.crossProduct(pts.getX(from), pts.getY(from),
+			                                      pts.getX(last), pts.getY(last),
+			                                      pts.getX(i), pts.getY(i)) != 0)
+				return false;
+		}
+		return true;
+	}
+}
@@ -5,11 +5,8 @@ package convexHull;
  * @author Luke Fernando
  * 
  */
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.ArrayList;
 import java.util.InputMismatchException;
-import java.util.Scanner;
 
 
 
@@ -23,29 +20,20 @@ public class PointArray {
 
 	public Point[] points;
 	
+	/**
+	 * Reads the points with a MappedPointReader, which reads the same integers as a Scanner would, 
+	 * or with BinaryPointFile if the file is in its binary format.
+	 * 
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers, or 
+	 *                                  is a malformed binary point file
+	 */
 	public PointArray(String inputFileName) throws FileNotFoundException, InputMismatchException
 	{
-		ArrayList<Point> list = new ArrayList<Point>();
-		File file = new File(inputFileName);
-		@SuppressWarnings("resource")
-		Scanner input = new Scanner(file);
-		
-		while (input.hasNextInt())
-		{
-			int x = input.nextInt();
-			if (!input.hasNextInt())
-			{
-				throw new InputMismatchException("input file contains an odd number of integers");
-			}
-			int y  = input.nextInt();
-			list.add(new Point(x, y));
-		}
-		input.close();
-		
-		points = new Point[list.size()];
-		for (int i = 0; i < points.length; i++)
-		{
-			points[i] = list.get(i);
-		}
+		if (BinaryPointFile.isBinary(inputFileName))
+			points = BinaryPointFile.read(inputFileName).toPoints();
+		else
+			points = MappedPointReader.read(inputFileName).toPoints();
 	}
 }
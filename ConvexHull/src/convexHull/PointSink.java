@@ -0,0 +1,22 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Receiver of points given by their coordinates, one at a time.  The file readers feed their
+ * points to a PointSink, so a PointStore can collect all of them while a StreamingHullBuilder
+ * keeps only those that may lie on the convex hull.
+ *
+ */
+public interface PointSink
+{
+	/**
+	 * Receive the point (x, y).
+	 */
+	void add(int x, int y);
+}
@@ -0,0 +1,220 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.Arrays;
+
+/**
+ *
+ * Structure-of-arrays storage for a set of points.  The x- and y-coordinates are kept in two
+ * parallel int arrays, so the hull engines, the comparators and the sorter can work on primitive
+ * coordinates without allocating a Point object per input point.  Point objects are created only
+ * on request through toPoint() and toPoints(), e.g. for the final hullVertices[].  As a PointSink
+ * it collects every point it receives.
+ *
+ */
+public class PointStore implements PointSink
+{
+	private static final int DEFAULT_SIZE = 10;
+
+	private int[] xs;   // x-coordinates; xs[i] and ys[i] together make up the i-th point
+	private int[] ys;   // y-coordinates
+	private int size;   // number of points stored
+
+
+	/**
+	 * Constructs an empty store.
+	 */
+	public PointStore()
+	{
+		this(DEFAULT_SIZE);
+	}
+
+
+	/**
+	 * Constructs an empty store with room for capacity points before it has to grow.
+	 *
+	 * @param capacity
+	 */
+	public PointStore(int capacity)
+	{
+		xs = new int[Math.max(capacity, 1)];
+		ys = new int[Math.max(capacity, 1)];
+	}
+
+
+	/**
+	 * Constructs a store holding the coordinates of the points in pts[].
+	 *
+	 * @param pts
+	 */
+	public PointStore(Point[] pts)
+	{
+		this(pts.length);
+		for (int i = 0; i < pts.length; i++)
+		{
+			xs[i] = pts[i].getX();
+			ys[i] = pts[i].getY();
+		}
+		size = pts.length;
+	}
+
+
+	/**
+	 * Constructs a store holding the points (xs[i], ys[i]).  The two arrays are copied.
+	 *
+	 * @param xs  x-coordinates
+	 * @param ys  y-coordinates
+	 * @throws IllegalArgumentException  if the two arrays differ in length
+	 */
+	public PointStore(int[] xs, int[] ys) throws IllegalArgumentException
+	{
+		if (xs.length != ys.length)
+			throw new IllegalArgumentException("coordinate arrays differ in length");
+		this.xs = Arrays.copyOf(xs, Math.max(xs.length, 1));
+		this.ys = Arrays.copyOf(ys, Math.max(ys.length, 1));
+		size = xs.length;
+	}
+
+
+	/**
+	 * Copy constructor.
+	 *
+	 * @param other
+	 */
+	public PointStore(PointStore other)
+	{
+		xs = Arrays.copyOf(other.xs, Math.max(other.size, 1));
+		ys = Arrays.copyOf(other.ys, Math.max(other.size, 1));
+		size = other.size;
+	}
+
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public int getX(int i)
+	{
+		return xs[i];
+	}
+
+	public int getY(int i)
+	{
+		return ys[i];
+	}
+
+
+	/**
+	 * Appends the point (x, y).
+	 *
+	 * @param x
+	 * @param y
+	 */
+	public void add(int x, int y)
+	{
+		checkCapacity();
+		xs[size] = x;
+		ys[size] = y;
+		size++;
+	}
+
+
+	public void add(Point p)
+	{
+		add(p.getX(), p.getY());
+	}
+
+
+	/**
+	 * Replaces the i-th point with (x, y).
+	 */
+	public void set(int i, int x, int y)
+	{
+		xs[i] = x;
+		ys[i] = y;
+	}
+
+
+	/**
+	 * Drops all points from index newSize on.  The backing arrays are kept.
+	 *
+	 * @param newSize
+	 * @throws IllegalArgumentException  if newSize is negative or greater than size()
+	 */
+	public void truncate(int newSize) throws IllegalArgumentException
+	{
+		if (newSize < 0 || newSize > size)
+			throw new IllegalArgumentException("cannot truncate to " + newSize + " points");
+		size = newSize;
+	}
+
+
+	/**
+	 * Exchanges the i-th and the j-th points.
+	 */
+	public void swap(int i, int j)
+	{
+		int temp = xs[i];
+		xs[i] = xs[j];
+		xs[j] = temp;
+		temp = ys[i];
+		ys[i] = ys[j];
+		ys[j] = temp;
+	}
+
+
+	/**
+	 * Returns true if the i-th and the j-th points have the same coordinates.
+	 */
+	public boolean samePoint(int i, int j)
+	{
+		return xs[i] == xs[j] && ys[i] == ys[j];
+	}
+
+
+	/**
+	 * Creates a Point object for the i-th point.
+	 */
+	public Point toPoint(int i)
+	{
+		return new Point(xs[i], ys[i]);
+	}
+
+
+	/**
+	 * Creates an array of Point objects holding all the points in the store, in order.
+	 */
+	public Point[] toPoints()
+	{
+		Point[] pts = new Point[size];
+		for (int i = 0; i < size; i++)
+		{
+			pts[i] = new Point(xs[i], ys[i]);
+		}
+		return pts;
+	}
+
+
+	/**
+	 * Ensures that the backing arrays have space to store at least one additional point.
+	 */
+	private void checkCapacity()
+	{
+		if (size == xs.length)
+		{
+			xs = Arrays.copyOf(xs, xs.length * 2);
+			ys = Arrays.copyOf(ys, ys.length * 2);
+		}
+	}
+}
@@ -11,11 +11,14 @@ import java.util.Comparator;
 /**
  * 
  * This class compares two points p1 and p2 by polar angle with respect to a reference point.  
+ * The comparison is exact when all coordinates lie within ConvexHull.MAX_COORDINATE in absolute 
+ * value. 
  *  
  */
-public class PolarAngleComparator implements Comparator<Point>
+public class PolarAngleComparator implements Comparator<Point>, CoordinateComparator
 {
-	private Point referencePoint; 
+	private int xref;   // coordinates of the reference point
+	private int yref;
 	private boolean flag;  // used for breaking a tie between two points that have 
 	                       // the same polar angle with respect to referencePoint
 	
@@ -25,13 +28,24 @@ public class PolarAngleComparator implements Comparator<Point>
 	 */
 	public PolarAngleComparator(Point p, boolean flag)
 	{
-		referencePoint = p; 
-		this.flag = flag; 
+		this(p.getX(), p.getY(), flag);
+	}
+	
+	/**
+	 * 
+	 * @param x  x-coordinate of the reference point
+	 * @param y  y-coordinate of the reference point
+	 */
+	public PolarAngleComparator(int x, int y, boolean flag)
+	{
+		xref = x;
+		yref = y;
+		this.flag = flag;
 	}
 	
 	/**
 	 * Use cross product and dot product to implement this method.  Do not take square roots 
-	 * or use trigonometric functions. Calls private methods crossProduct() and dotProduct(). 
+	 * or use trigonometric functions. Calls the methods crossProduct() and dotProduct(). 
 	 * 
 	 * Precondition: both p1 and p2 are different from referencePoint. 
 	 * 
@@ -50,11 +64,21 @@ public class PolarAngleComparator implements Comparator<Point>
 	 */
 	public int compare(Point p1, Point p2)
 	{
-		if (p1.equals(p2))
+		return compare(p1.getX(), p1.getY(), p2.getX(), p2.getY());
+	}
+	
+	
+	/**
+	 * Same as compare(Point, Point) on the points (x1, y1) and (x2, y2). 
+	 */
+	public int compare(int x1, int y1, int x2, int y2)
+	{
+		if (x1 == x2 && y1 == y2)
 			return 0;
-		if (crossProduct(p1, p2) > 0 || //turning left
-		   (crossProduct(p1, p2) == 0 && this.flag == true && dotProduct(p1, p1) < dotProduct(p2, p2)) || //p1 is closer than p2
-		   (crossProduct(p1, p2) == 0 && this.flag == false && dotProduct(p1, p1) > dotProduct(p2, p2))) //p1 is further than p2
+		long cross = crossProduct(xref, yref, x1, y1, x2, y2);
+		if (cross > 0 || //turning left
+		   (cross == 0 && this.flag == true && dotProduct(xref, yref, x1, y1, x1, y1) < dotProduct(xref, yref, x2, y2, x2, y2)) || //p1 is closer than p2
+		   (cross == 0 && this.flag == false && dotProduct(xref, yref, x1, y1, x1, y1) > dotProduct(xref, yref, x2, y2, x2, y2))) //p1 is further than p2
 		{
 			return -1; // turning left or p1's polar angle is less than p2's polar angle
 		}
@@ -64,44 +88,30 @@ public class PolarAngleComparator implements Comparator<Point>
 	    
 
     /**
+     * Orientation test shared with the hull engines.  The coordinates are widened to long before 
+     * they are subtracted, so the differences do not overflow.  The products may: the result is 
+     * exact only if it fits in a long.  It is twice the area of the triangle of the three points, 
+     * so it fits as long as every coordinate lies within ConvexHull.MAX_COORDINATE in absolute 
+     * value, i.e. the points lie in a square of side less than 2^31.  For points spread over 
+     * the whole int range it may have the wrong sign. 
      * 
-     * @param p1
-     * @param p2
-     * @return cross product of two vectors: p1 - referencePoint and p2 - referencePoint
+     * @return cross product of two vectors: (x1, y1) - (xref, yref) and (x2, y2) - (xref, yref); 
+     *         positive if (x2, y2) lies to the left of the ray from (xref, yref) through (x1, y1)
      */
-    private int crossProduct(Point p1, Point p2)
+    static long crossProduct(int xref, int yref, int x1, int y1, int x2, int y2)
     {
-    	int xref = referencePoint.getX();
-    	int yref = referencePoint.getY();
-    	
-    	int x1 = p1.getX();
-    	int y1 = p1.getY();
-    	
-    	int x2 = p2.getX();
-    	int y2 = p2.getY();
-    	
-    	return (x1-xref)*(y2-yref) - (x2-xref)*(y1-yref);
-    	
+    	return ((long) x1 - xref) * ((long) y2 - yref) - ((long) x2 - xref) * ((long) y1 - yref);
     }
 
     /**
+     * Differences and products are taken in long arithmetic, as in crossProduct(), and the result 
+     * is exact under the same bound on the coordinates: each of the two products is then less 
+     * than 2^62 in absolute value. 
      * 
-     * @param p1
-     * @param p2
-     * @return dot product of two vectors: p1 - referencePoint and p2 - referencePoint
+     * @return dot product of two vectors: (x1, y1) - (xref, yref) and (x2, y2) - (xref, yref)
      */
-    private int dotProduct(Point p1, Point p2) 
+    static long dotProduct(int xref, int yref, int x1, int y1, int x2, int y2) 
     {
-    	int xref = referencePoint.getX();
-    	int yref = referencePoint.getY();
-    	
-    	int x1 = p1.getX();
-    	int y1 = p1.getY();
-    	
-    	int x2 = p2.getX();
-    	int y2 = p2.getY();
-    	
-    	return (x1-xref)*(x2-xref) + (y1-yref)*(y2-yref);
-    	
+    	return ((long) x1 - xref) * ((long) x2 - xref) + ((long) y1 - yref) * ((long) y2 - yref);
     }
 }
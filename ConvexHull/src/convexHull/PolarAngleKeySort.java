@@ -0,0 +1,91 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Sorts points by polar angle with respect to a reference point in exactly the order of
+ * PolarAngleComparator(reference, true), but without comparator calls for almost all points.
+ *
+ * The reference point must be the lowest point (leftmost among the lowest), so every other point
+ * has a polar angle in [0, pi).  For each point the pseudo-angle 1 - dx / (|dx| + dy) is computed
+ * once.  It grows strictly with the polar angle, and since it is computed with a single rounded
+ * division and subtraction its floating point value never decreases as the angle grows.  It is
+ * quantized to 32 bits and packed with the index of the point into a long key, and the keys are
+ * radix sorted.  Points whose quantized angles are equal form runs, which are the only places where
+ * the order may still be wrong: each run is sorted with PolarAngleComparator, which also puts
+ * collinear points closer to the reference point first.
+ *
+ * The order matches that of the comparator for coordinates within ConvexHull.MAX_COORDINATE in
+ * absolute value, where the comparator is exact.
+ *
+ */
+public class PolarAngleKeySort
+{
+	/**
+	 * Sorts pts by polar angle with respect to (xref, yref), which must be a point of pts with
+	 * the smallest y-coordinate and, among those, the smallest x-coordinate.
+	 *
+	 * @param pts
+	 * @param xref
+	 * @param yref
+	 */
+	public static void sort(PointStore pts, int xref, int yref)
+	{
+		int n = pts.size();
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++)
+		{
+			keys[i] = (quantizedAngle(pts.getX(i) - (long) xref, pts.getY(i) - (long) yref) << 32) | i;
+		}
+		keys = RadixSortPoints.sort(keys);
+
+		// reorder the points by key
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+		for (int i = 0; i < n; i++)
+		{
+			int index = (int) keys[i];
+			xs[i] = pts.getX(index);
+			ys[i] = pts.getY(index);
+		}
+		for (int i = 0; i < n; i++)
+		{
+			pts.set(i, xs[i], ys[i]);
+		}
+
+		// sort runs of equal quantized angles exactly
+		QuickSortPoints sorter = new QuickSortPoints(pts);
+		PolarAngleComparator comp = new PolarAngleComparator(xref, yref, true);
+		int start = 0;
+		for (int i = 1; i <= n; i++)
+		{
+			if (i == n || (keys[i] >>> 32) != (keys[start] >>> 32))
+			{
+				if (i - start > 1)
+					sorter.quickSort(start, i, comp);
+				start = i;
+			}
+		}
+	}
+
+
+	/**
+	 * @param dx  x-coordinate relative to the reference point
+	 * @param dy  y-coordinate relative to the reference point, non-negative
+	 * @return    the pseudo-angle 1 - dx / (|dx| + dy), which lies in [0, 2], scaled to an
+	 *            unsigned 32-bit integer
+	 */
+	private static long quantizedAngle(long dx, long dy)
+	{
+		long sum = Math.abs(dx) + dy;
+		if (sum == 0)
+			return 0;   // the reference point itself
+		double angle = 1.0 - (double) dx / (double) sum;
+		return Math.min((long) (angle * 2147483648.0), 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,348 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.FileNotFoundException;
+import java.util.InputMismatchException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ *
+ * QuickHull, run in parallel on a ForkJoinPool.
+ *
+ * The chord from lowestPoint to the highest point splits the points into a right side and a left
+ * side.  For a chord PQ and the points to its right, the point F farthest from the chord is a hull
+ * vertex; the points to the right of PF and to the right of FQ are handled recursively and all
+ * other points are discarded.  Every recursive step is a RecursiveTask, which forks one half while
+ * computing the other, unless fewer than sequentialCutoff points are left, in which case both
+ * halves are computed on the current thread.
+ *
+ */
+public class QuickHull extends ConvexHull
+{
+	private static final int DEFAULT_CUTOFF = 8192;
+
+	private int sequentialCutoff = DEFAULT_CUTOFF;   // smallest subset size that is split across tasks
+
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+	/**
+	 * Indices into pointsNoDuplicate.  Every task owns a range of this array, which it partitions
+	 * in place for its two subtasks.
+	 */
+	private int[] candidates;
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public QuickHull(Point[] pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as QuickHull(Point[]), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts.length == 0
+	 */
+	public QuickHull(Point[] pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "QuickHull";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public QuickHull(PointStore pts) throws IllegalArgumentException
+	{
+		this(pts, new HullOptions());
+	}
+
+
+	/**
+	 * Same as QuickHull(PointStore), with the given options instead of the defaults.
+	 *
+	 * @param pts
+	 * @param options
+	 * @throws IllegalArgumentException  if pts is empty
+	 */
+	public QuickHull(PointStore pts, HullOptions options) throws IllegalArgumentException
+	{
+		super(pts, options);
+		algorithm = "QuickHull";
+	}
+
+
+	/**
+	 * Call corresponding constructor of the super class.  Initialize the variable algorithm.
+	 *
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public QuickHull(String inputFileName) throws FileNotFoundException, InputMismatchException
+	{
+		this(inputFileName, new HullOptions());
+	}
+
+
+	/**
+	 * Same as QuickHull(String), with the given options instead of the defaults.
+	 *
+	 * @param  inputFileName
+	 * @param  options
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers
+	 */
+	public QuickHull(String inputFileName, HullOptions options) throws FileNotFoundException, InputMismatchException
+	{
+		super(inputFileName, options);
+		algorithm = "QuickHull";
+	}
+
+
+	/**
+	 * Subsets with fewer points than cutoff are processed sequentially.
+	 *
+	 * @param cutoff
+	 * @throws IllegalArgumentException  if cutoff < 1
+	 */
+	public void setSequentialCutoff(int cutoff) throws IllegalArgumentException
+	{
+		if (cutoff < 1)
+			throw new IllegalArgumentException("cutoff must be positive");
+		sequentialCutoff = cutoff;
+	}
+
+
+	/**
+	 * Run the tasks on the given pool instead of the common pool.
+	 *
+	 * @param pool
+	 */
+	public void setPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+
+	// ---------
+	// QuickHull
+	// ---------
+
+	/**
+	 * Split the points by the chord from lowestPoint to the highest point, and build the two
+	 * sides of the hull in parallel.  The vertices are stored in hullVertices[] in counterclockwise
+	 * order starting at lowestPoint: lowestPoint, the right side, the highest point, the left side.
+	 * Collinear points are left out of the hull.
+	 *
+     * Two degenerate cases below must be handled:
+     *
+     *     1) pointsNoDuplicate contains just one point, in which case the convex
+     *        hull is the point itself.
+     *
+     *     2) The array contains only collinear points, in which case the hull is the line segment
+     *        connecting the two extreme points.  Both sides are then empty.
+	 */
+	public void constructHull()
+	{
+		long startTime = System.nanoTime();
+		int n = pointsNoDuplicate.size();
+		if (n == 1)
+		{
+			hullVertices = new Point[1];
+			hullVertices[0] = pointsNoDuplicate.toPoint(0);
+			time = System.nanoTime() - startTime;
+			return;
+		}
+
+		int low = 0;
+		int high = n - 1;
+
+		// right side at the front of candidates[], left side at the back
+		candidates = new int[n];
+		int right = 0;
+		int left = n;
+		for (int i = 1; i < n - 1; i++)
+		{
+			long cross = cross(low, high, i);
+			if (cross < 0)
+				candidates[right++] = i;
+			else if (cross > 0)
+				candidates[--left] = i;
+		}
+
+		HullTask rightTask = new HullTask(low, high, 0, right);
+		HullTask leftTask = new HullTask(high, low, left, n);
+		int[][] sides = pool.invoke(new SplitTask(rightTask, leftTask));
+
+		hullVertices = new Point[2 + sides[0].length + sides[1].length];
+		int k = 0;
+		hullVertices[k++] = pointsNoDuplicate.toPoint(low);
+		for (int i = 0; i < sides[0].length; i++)
+			hullVertices[k++] = pointsNoDuplicate.toPoint(sides[0][i]);
+		hullVertices[k++] = pointsNoDuplicate.toPoint(high);
+		for (int i = 0; i < sides[1].length; i++)
+			hullVertices[k++] = pointsNoDuplicate.toPoint(sides[1][i]);
+		candidates = null;
+		long endTime = System.nanoTime();
+		this.time = endTime - startTime;
+	}
+
+
+	/**
+	 * @return cross product of q - p and r - p for the points with these indices; negative if r
+	 *         lies to the right of the line from p to q
+	 */
+	private long cross(int p, int q, int r)
+	{
+		return PolarAngleComparator.crossProduct(pointsNoDuplicate.getX(p), pointsNoDuplicate.getY(p),
+		                                         pointsNoDuplicate.getX(q), pointsNoDuplicate.getY(q),
+		                                         pointsNoDuplicate.getX(r), pointsNoDuplicate.getY(r));
+	}
+
+
+	/**
+	 * @return dot product of q - p and r - p for the points with these indices
+	 */
+	private long dot(int p, int q, int r)
+	{
+		return PolarAngleComparator.dotProduct(pointsNoDuplicate.getX(p), pointsNoDuplicate.getY(p),
+		                                       pointsNoDuplicate.getX(q), pointsNoDuplicate.getY(q),
+		                                       pointsNoDuplicate.getX(r), pointsNoDuplicate.getY(r));
+	}
+
+
+	/**
+	 * Runs the tasks for the two sides of the initial chord.
+	 */
+	private static class SplitTask extends RecursiveTask<int[][]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private HullTask right;
+		private HullTask left;
+
+		SplitTask(HullTask right, HullTask left)
+		{
+			this.right = right;
+			this.left = left;
+		}
+
+		@Override
+		protected int[][] compute()
+		{
+			left.fork();
+			int[] r = right.compute();
+			int[] l = left.join();
+			return new int[][] { r, l };
+		}
+	}
+
+
+	/**
+	 * Finds the hull vertices strictly between p and q, given the points candidates[from] ...
+	 * candidates[to - 1], which all lie strictly to the right of the line from p to q.  The
+	 * vertices are returned in counterclockwise order, from p toward q.
+	 */
+	private class HullTask extends RecursiveTask<int[]>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private int p;
+		private int q;
+		private int from;
+		private int to;
+
+		HullTask(int p, int q, int from, int to)
+		{
+			this.p = p;
+			this.q = q;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected int[] compute()
+		{
+			if (from == to)
+				return new int[0];
+
+			// farthest point from the chord; on a tie, the one furthest in the direction of q
+			int f = candidates[from];
+			long fCross = cross(p, q, f);
+			for (int i = from + 1; i < to; i++)
+			{
+				int c = candidates[i];
+				long cCross = cross(p, q, c);
+				if (cCross < fCross || (cCross == fCross && dot(p, q, c) > dot(p, q, f)))
+				{
+					f = c;
+					fCross = cCross;
+				}
+			}
+
+			// points right of pf to the front, then points right of fq; drop all others
+			int mid = partition(p, f, from, to);
+			int end = partition(f, q, mid, to);
+
+			HullTask first = new HullTask(p, f, from, mid);
+			HullTask second = new HullTask(f, q, mid, end);
+			int[] a;
+			int[] b;
+			if (to - from >= sequentialCutoff)
+			{
+				second.fork();
+				a = first.compute();
+				b = second.join();
+			}
+			else
+			{
+				a = first.compute();
+				b = second.compute();
+			}
+
+			int[] vertices = new int[a.length + 1 + b.length];
+			System.arraycopy(a, 0, vertices, 0, a.length);
+			vertices[a.length] = f;
+			System.arraycopy(b, 0, vertices, a.length + 1, b.length);
+			return vertices;
+		}
+
+		/**
+		 * Moves the points of candidates[start] ... candidates[to - 1] lying strictly to the
+		 * right of the line from a to b to the front of that range.
+		 *
+		 * @return end of the moved points
+		 */
+		private int partition(int a, int b, int start, int to)
+		{
+			int k = start;
+			for (int i = start; i < to; i++)
+			{
+				if (cross(a, b, candidates[i]) < 0)
+				{
+					int temp = candidates[i];
+					candidates[i] = candidates[k];
+					candidates[k++] = temp;
+				}
+			}
+			return k;
+		}
+	}
+}
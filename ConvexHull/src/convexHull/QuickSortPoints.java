@@ -7,103 +7,381 @@ package convexHull;
  */
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This class sorts an array of Point objects using a provided Comparator.  For the purpose
  * you may adapt your implementation of quicksort from Project 2.  
+ * 
+ * The points are held in a PointStore and sorted in place on their primitive coordinates. 
+ * Comparators that also implement CoordinateComparator (YComparator, PolarAngleComparator) 
+ * are called on the coordinates directly; no Point objects are created during the sort. 
+ * 
+ * The sort is an introsort, which runs in O(n log n) time on every input: 
+ * 
+ *     1) The pivot is the median of three points, or the median of three medians (ninther) 
+ *        on larger ranges, so sorted and reverse sorted input stays balanced. 
+ *     
+ *     2) Partitioning is three-way, so runs of equal keys are split off in a single pass.  
+ *     
+ *     3) Ranges of at most INSERTION_CUTOFF points are finished by insertion sort. 
+ *     
+ *     4) Recursion is replaced by a loop over the smaller part and an explicit stack for the 
+ *        larger part, which keeps the stack depth below log n. 
+ *        
+ *     5) A range that is still unsorted after 2 log n levels of partitioning is heapsorted. 
+ * 
+ * In parallel mode the two parts of every partition are sorted as separate tasks on a 
+ * ForkJoinPool, down to ranges of PARALLEL_CUTOFF points, which are sorted as above.  Parallel 
+ * mode is chosen per call with quickSort(comp, pool), or for the sorts of at least a given size 
+ * by this object with setParallelism().  The library never creates a pool of its own. 
  */
 
 public class QuickSortPoints
 {
-	private Point[] points;  	// Array of points to be sorted.
+	private static final int INSERTION_CUTOFF = 16;    // ranges up to this size are insertion sorted
+	private static final int NINTHER_THRESHOLD = 128;  // ranges from this size on use the ninther
+	private static final int PARALLEL_CUTOFF = 8192;   // ranges below this size are not split into tasks
+	
+	// pool and minimum size for which quickSort(comp) sorts in parallel; off by default
+	private ForkJoinPool parallelPool = null;
+	private int parallelThreshold = Integer.MAX_VALUE;
+	
+	private PointStore points;  	// Points to be sorted.
 	
 
 	/**
-	 * Constructor takes an array of Point objects. 
+	 * Constructor takes an array of Point objects.  Their coordinates are copied, so pts[] 
+	 * itself is left unchanged by the sort. 
 	 * 
 	 * @param pts
 	 */
 	public QuickSortPoints(Point[] pts)
 	{
-		points = new Point[pts.length];
-		for (int i = 0; i < pts.length; i++)
-		{
-			points[i] = new Point(pts[i]);
-		}
+		points = new PointStore(pts);
+	}
+	
+	
+	/**
+	 * Constructor takes a PointStore, which is NOT copied: quickSort() sorts pts in place. 
+	 * 
+	 * @param pts
+	 */
+	public QuickSortPoints(PointStore pts)
+	{
+		points = pts;
 	}
 	
+	
 	/**
-	 * Copy the sorted array to pts[]. 
+	 * Return the sorted points as an array of new Point objects. 
 	 * 
-	 * @param pts  array to copy onto
+	 * @param pts  ignored; kept for compatibility
 	 */
 	Point[] getSortedPoints(Point[] pts)
 	{
-		pts = new Point[points.length];
-		for (int i = 0; i < points.length; i++)
-		{
-			pts[i] = new Point(points[i]);
-		}
-		return pts;
+		return points.toPoints();
+	}
+	
+	
+	/**
+	 * Return the sorted points without creating Point objects. 
+	 */
+	PointStore getSortedStore()
+	{
+		return points;
 	}
 
 	
 	/**
-	 * Perform quicksort on the array points[] with a supplied comparator. 
+	 * Perform quicksort (introsort) on the stored points with a supplied comparator. 
 	 * 
 	 * @param comp
 	 */
 	public void quickSort(Comparator<Point> comp)
 	{
-		quickSortRec(0, points.length - 1, comp);
+		if (parallelPool != null && points.size() >= parallelThreshold)
+			quickSort(comp, parallelPool);
+		else
+			introSort(0, points.size(), toCoordinateComparator(comp));
 	}
 	
 	
 	/**
-	 * Operates on the subarray of points[] with indices between first and last. 
+	 * Perform the sort in parallel on the given pool. 
 	 * 
-	 * @param first  starting index of the subarray
-	 * @param last   ending index of the subarray
+	 * @param comp
+	 * @param pool
 	 */
-	private void quickSortRec(int first, int last, Comparator<Point> comp)
+	public void quickSort(Comparator<Point> comp, ForkJoinPool pool)
 	{
-		if (first < last)
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(Math.max(points.size(), 1)));
+		pool.invoke(new SortTask(0, points.size(), depth, toCoordinateComparator(comp)));
+	}
+	
+	
+	/**
+	 * Perform the sort on the stored points with indices from, ..., to - 1 only. 
+	 * 
+	 * @param from  starting index of the subarray
+	 * @param to    ending index of the subarray, exclusive
+	 * @param comp
+	 */
+	void quickSort(int from, int to, Comparator<Point> comp)
+	{
+		introSort(from, to, toCoordinateComparator(comp));
+	}
+	
+	
+	/**
+	 * Make quickSort(comp) on this object sort in parallel on pool whenever there are at least 
+	 * threshold points.  A null pool turns parallel mode off.  The sorters used by ConvexHull and 
+	 * GrahamScan are set up from HullOptions.setSortParallelism(). 
+	 * 
+	 * @param pool
+	 * @param threshold
+	 */
+	public void setParallelism(ForkJoinPool pool, int threshold)
+	{
+		parallelPool = pool;
+		parallelThreshold = threshold;
+	}
+	
+	
+	/**
+	 * Sorts the stored points with indices from, ..., to - 1. 
+	 * 
+	 * @param from  starting index of the subarray
+	 * @param to    ending index of the subarray, exclusive
+	 */
+	private void introSort(int from, int to, CoordinateComparator comp)
+	{
+		// pending ranges as triples (from, to, depth limit); the larger part is pushed, so at 
+		// most one range per halving is pending
+		int[] stack = new int[3 * 64];
+		int top = 0;
+		int[] bounds = new int[2];
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+		while (true)
 		{
-			int pIndex = partition(first, last, comp);
-			quickSortRec(first, pIndex - 1, comp);
-			quickSortRec(pIndex + 1, last, comp);
+			if (to - from <= INSERTION_CUTOFF)
+			{
+				insertionSort(from, to, comp);
+			}
+			else if (depth == 0)
+			{
+				heapSort(from, to, comp);
+			}
+			else
+			{
+				depth--;
+				partition(from, to, comp, bounds);
+				int lt = bounds[0];
+				int gt = bounds[1];
+				
+				// continue with the smaller part, push the larger one
+				if (lt - from < to - gt - 1)
+				{
+					stack[top++] = gt + 1;
+					stack[top++] = to;
+					stack[top++] = depth;
+					to = lt;
+				}
+				else
+				{
+					stack[top++] = from;
+					stack[top++] = lt;
+					stack[top++] = depth;
+					from = gt + 1;
+				}
+				continue;
+			}
+			if (top == 0)
+				return;
+			depth = stack[--top];
+			to = stack[--top];
+			from = stack[--top];
 		}
 	}
 	
-
+	
 	/**
-	 * Operates on the subarray of points[] with indices between first and last.
-	 * 
-	 * @param first
-	 * @param last
-	 * @return
+	 * Three-way partition of the stored points with indices from, ..., to - 1 around a pivot 
+	 * chosen by choosePivot().  Afterwards [from, bounds[0]) holds the points less than the pivot, 
+	 * [bounds[0], bounds[1]] the points equal to it and (bounds[1], to) the greater ones. 
 	 */
-	private int partition(int first, int last, Comparator<Point> comp)
+	private void partition(int from, int to, CoordinateComparator comp, int[] bounds)
 	{
-		Point pivot = points[last];
-		int pIndex = first;
-		for (int i = first; i < last; i++)
+		int pivot = choosePivot(from, to, comp);
+		int px = points.getX(pivot);
+		int py = points.getY(pivot);
+		int lt = from;
+		int i = from;
+		int gt = to - 1;
+		while (i <= gt)
 		{
-			if (comp.compare(points[i], pivot) <= 0)
+			int c = comp.compare(points.getX(i), points.getY(i), px, py);
+			if (c < 0)
+				points.swap(lt++, i++);
+			else if (c > 0)
+				points.swap(i, gt--);
+			else
+				i++;
+		}
+		bounds[0] = lt;
+		bounds[1] = gt;
+	}
+	
+	
+	/**
+	 * Parallel quicksort of the stored points with indices from, ..., to - 1.  The two parts of 
+	 * a partition touch disjoint index ranges, so they can be sorted concurrently. 
+	 */
+	private class SortTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private int from;
+		private int to;
+		private int depth;     // levels of partitioning left before falling back to introSort()
+		private CoordinateComparator comp;
+		
+		SortTask(int from, int to, int depth, CoordinateComparator comp)
+		{
+			this.from = from;
+			this.to = to;
+			this.depth = depth;
+			this.comp = comp;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if (to - from < PARALLEL_CUTOFF || depth == 0)
+			{
+				introSort(from, to, comp);
+				return;
+			}
+			int[] bounds = new int[2];
+			partition(from, to, comp, bounds);
+			invokeAll(new SortTask(from, bounds[0], depth - 1, comp), 
+			          new SortTask(bounds[1] + 1, to, depth - 1, comp));
+		}
+	}
+	
+	
+	/**
+	 * @return index of the median of three points in [from, to), or of the median of three 
+	 *         such medians on large ranges
+	 */
+	private int choosePivot(int from, int to, CoordinateComparator comp)
+	{
+		int last = to - 1;
+		int mid = from + (to - from) / 2;
+		if (to - from < NINTHER_THRESHOLD)
+			return median(from, mid, last, comp);
+		int step = (to - from) / 8;
+		int a = median(from, from + step, from + 2 * step, comp);
+		int b = median(mid - step, mid, mid + step, comp);
+		int c = median(last - 2 * step, last - step, last, comp);
+		return median(a, b, c, comp);
+	}
+	
+	
+	/**
+	 * @return whichever of the indices a, b, c holds the median of the three points
+	 */
+	private int median(int a, int b, int c, CoordinateComparator comp)
+	{
+		if (compare(a, b, comp) < 0)
+		{
+			if (compare(b, c, comp) < 0)
+				return b;
+			return compare(a, c, comp) < 0 ? c : a;
+		}
+		if (compare(a, c, comp) < 0)
+			return a;
+		return compare(b, c, comp) < 0 ? c : b;
+	}
+	
+	
+	/**
+	 * Insertion sort on the stored points with indices from, ..., to - 1. 
+	 */
+	private void insertionSort(int from, int to, CoordinateComparator comp)
+	{
+		for (int i = from + 1; i < to; i++)
+		{
+			int x = points.getX(i);
+			int y = points.getY(i);
+			int j = i - 1;
+			while (j >= from && comp.compare(points.getX(j), points.getY(j), x, y) > 0)
 			{
-				swap(i, pIndex);
-				pIndex++;
+				points.set(j + 1, points.getX(j), points.getY(j));
+				j--;
 			}
+			points.set(j + 1, x, y);
 		}
-		swap(pIndex, last);
-		return pIndex;
 	}
 	
-	private void swap(int i, int j)
+	
+	/**
+	 * Heapsort on the stored points with indices from, ..., to - 1. 
+	 */
+	private void heapSort(int from, int to, CoordinateComparator comp)
 	{
-		Point temp = points[i];
-		points[i] = points[j];
-		points[j] = temp;
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--)
+			siftDown(from, i, n, comp);
+		for (int end = n - 1; end > 0; end--)
+		{
+			points.swap(from, from + end);
+			siftDown(from, 0, end, comp);
+		}
+	}
+	
+	
+	/**
+	 * Restores the max-heap property below node i of the heap held in the n points from 
+	 * index base on. 
+	 */
+	private void siftDown(int base, int i, int n, CoordinateComparator comp)
+	{
+		while (2 * i + 1 < n)
+		{
+			int child = 2 * i + 1;
+			if (child + 1 < n && compare(base + child, base + child + 1, comp) < 0)
+				child++;
+			if (compare(base + i, base + child, comp) >= 0)
+				return;
+			points.swap(base + i, base + child);
+			i = child;
+		}
+	}
+	
+	
+	private int compare(int i, int j, CoordinateComparator comp)
+	{
+		return comp.compare(points.getX(i), points.getY(i), points.getX(j), points.getY(j));
+	}
+	
+	
+	/**
+	 * Comparators of this package are used on coordinates directly.  Any other comparator is 
+	 * wrapped, at the cost of two Point objects per comparison. 
+	 */
+	private static CoordinateComparator toCoordinateComparator(final Comparator<Point> comp)
+	{
+		if (comp instanceof CoordinateComparator)
+			return (CoordinateComparator) comp;
+		return new CoordinateComparator()
+		{
+			public int compare(int x1, int y1, int x2, int y2)
+			{
+				return comp.compare(new Point(x1, y1), new Point(x2, y2));
+			}
+		};
 	}
 }
 
@@ -0,0 +1,129 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Sorts points in the bottom-up order of Point.compareTo() and YComparator without calling a
+ * comparator.  Every point is packed into the 64-bit key
+ *
+ *     ((y ^ Integer.MIN_VALUE) << 32) | (x ^ Integer.MIN_VALUE),
+ *
+ * whose unsigned order is exactly the order by y-coordinate, then x-coordinate.  The keys are
+ * sorted by an LSD radix sort over 8-bit digits; passes over digits shared by all keys, as happens
+ * with small coordinate ranges, are skipped.  Equal points end up in adjacent keys.
+ *
+ */
+public class RadixSortPoints
+{
+	private static final int DIGIT_BITS = 8;
+	private static final int RADIX = 1 << DIGIT_BITS;
+	private static final int PASSES = 64 / DIGIT_BITS;
+
+
+	/**
+	 * Sorts pts bottom-up and removes duplicates, compacting pts in place.  Only the distinct
+	 * points are unpacked from their keys.
+	 *
+	 * @param pts
+	 * @return number of duplicates removed
+	 */
+	public static int sortUnique(PointStore pts)
+	{
+		int n = pts.size();
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++)
+		{
+			keys[i] = pack(pts.getX(i), pts.getY(i));
+		}
+		keys = sort(keys);
+
+		int kept = 0;
+		for (int i = 0; i < n; i++)
+		{
+			if (i == 0 || keys[i] != keys[i - 1])
+			{
+				pts.set(kept, unpackX(keys[i]), unpackY(keys[i]));
+				kept++;
+			}
+		}
+		pts.truncate(kept);
+		return n - kept;
+	}
+
+
+	/**
+	 * LSD radix sort of keys as unsigned 64-bit integers.
+	 *
+	 * @param keys
+	 * @return the sorted keys, which may be keys[] itself or a new array of the same length
+	 */
+	public static long[] sort(long[] keys)
+	{
+		int n = keys.length;
+
+		// histograms of all digits in one pass
+		int[][] count = new int[PASSES][RADIX];
+		for (int i = 0; i < n; i++)
+		{
+			long key = keys[i];
+			for (int pass = 0; pass < PASSES; pass++)
+			{
+				count[pass][(int) (key >>> (pass * DIGIT_BITS)) & (RADIX - 1)]++;
+			}
+		}
+
+		long[] source = keys;
+		long[] target = null;
+		for (int pass = 0; pass < PASSES; pass++)
+		{
+			int[] c = count[pass];
+			if (n == 0 || c[(int) (source[0] >>> (pass * DIGIT_BITS)) & (RADIX - 1)] == n)
+				continue;  // all keys share this digit
+
+			// starting position of every digit value
+			int sum = 0;
+			for (int d = 0; d < RADIX; d++)
+			{
+				int temp = c[d];
+				c[d] = sum;
+				sum += temp;
+			}
+
+			if (target == null)
+				target = new long[n];
+			for (int i = 0; i < n; i++)
+			{
+				long key = source[i];
+				target[c[(int) (key >>> (pass * DIGIT_BITS)) & (RADIX - 1)]++] = key;
+			}
+			long[] temp = source;
+			source = target;
+			target = temp;
+		}
+		return source;
+	}
+
+
+	/**
+	 * @return key of the point (x, y)
+	 */
+	static long pack(int x, int y)
+	{
+		return ((long) (y ^ Integer.MIN_VALUE) << 32) | ((x ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+	}
+
+	static int unpackX(long key)
+	{
+		return (int) key ^ Integer.MIN_VALUE;
+	}
+
+	static int unpackY(long key)
+	{
+		return (int) (key >>> 32) ^ Integer.MIN_VALUE;
+	}
+}
@@ -0,0 +1,346 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *
+ * Convex hull of the most recent points of a timestamped stream: those less than span time units
+ * older than the newest timestamp, and of those at most the last capacity points.
+ *
+ * The points in the window are kept in a ring buffer in order of arrival, and are grouped by
+ * arrival into blocks of blockSize points.  When a block fills up, its hull is computed with
+ * MonotoneChain.chainHull().  The hulls of the full blocks then form a queue built from two
+ * stacks, as in the classic two-stack queue, with HullMerge.merge() as the operation:
+ *
+ *     - the back holds the newer blocks, with the hull of all of them, which grows by one merge
+ *       per block;
+ *     - the front holds the older blocks, with the hull of every block and all younger blocks in
+ *       the front, computed by one sweep of merges when the oldest live point leaves the front
+ *       and the back is moved to the front.
+ *
+ * Each block takes part in a constant number of merges, so add() takes O(log blockSize + h /
+ * blockSize) amortized time for hulls of h vertices.  Expired points are dropped from the ring
+ * buffer at once and their blocks when the front moves past them.  getHull() merges the hull of
+ * the front from the first full block on, the hull of the back, and the hulls of the live points
+ * of the partly expired oldest block and of the block still filling up, in O(blockSize log
+ * blockSize + h) time.
+ *
+ * Coordinates must lie within ConvexHull.MAX_COORDINATE in absolute value, as for the engines.
+ *
+ */
+public class SlidingWindowHull
+{
+	private static final int DEFAULT_BLOCK_SIZE = 1 << 8;
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 4;
+
+	private final int blockSize;
+
+	private long span = Long.MAX_VALUE;         // points this much older than newest are expired;
+	                                            // Long.MAX_VALUE for no limit
+
+	private int capacity = Integer.MAX_VALUE;   // largest number of points in the window
+
+	// ring buffer of the points in the window; the point with sequence number s, counted from the
+	// first point ever added, is at index s & (times.length - 1)
+	private long[] times = new long[DEFAULT_BUFFER_SIZE];
+	private int[] xs = new int[DEFAULT_BUFFER_SIZE];
+	private int[] ys = new int[DEFAULT_BUFFER_SIZE];
+	private long first;                         // sequence number of the oldest point in the window
+	private long next;                          // sequence number of the next point to come
+	private long newest = Long.MIN_VALUE;       // greatest timestamp so far
+
+	// block b holds the points with sequence numbers b * blockSize ... (b + 1) * blockSize - 1;
+	// the full blocks frontStart ... frontEnd - 1 are in the front, and the full blocks from
+	// frontEnd on in the back
+	private long frontStart;
+	private long frontEnd;
+	private PointStore[] front = new PointStore[0];        // front[b - frontStart]: hull of blocks b ... frontEnd - 1
+	private List<PointStore> back = new ArrayList<PointStore>();   // back.get(b - frontEnd): hull of block b
+	private PointStore backHull = new PointStore();         // hull of all blocks in the back
+
+
+	/**
+	 * Constructs an empty window with the default block size, no limit on age and no limit on
+	 * the number of points.
+	 */
+	public SlidingWindowHull()
+	{
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+
+	/**
+	 * @param blockSize
+	 * @throws IllegalArgumentException  if blockSize < 1
+	 */
+	public SlidingWindowHull(int blockSize) throws IllegalArgumentException
+	{
+		if (blockSize < 1)
+			throw new IllegalArgumentException("block size must be positive");
+		this.blockSize = blockSize;
+	}
+
+
+	/**
+	 * Limits the window to the points whose timestamps are less than span below the newest
+	 * timestamp, evicting the points that are now too old.  A span of Long.MAX_VALUE, the
+	 * default, sets no limit.
+	 *
+	 * @param span
+	 * @throws IllegalArgumentException  if span < 1
+	 */
+	public void setSpan(long span) throws IllegalArgumentException
+	{
+		if (span < 1)
+			throw new IllegalArgumentException("span must be positive");
+		this.span = span;
+		evict();
+	}
+
+
+	/**
+	 * Limits the window to the last capacity points, evicting the points beyond.
+	 *
+	 * @param capacity
+	 * @throws IllegalArgumentException  if capacity < 1
+	 */
+	public void setCapacity(int capacity) throws IllegalArgumentException
+	{
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity must be positive");
+		this.capacity = capacity;
+		evict();
+	}
+
+
+	/**
+	 * Adds the point (x, y) with the given timestamp, and evicts the points that it makes
+	 * expire.
+	 *
+	 * @param time
+	 * @param x
+	 * @param y
+	 * @throws IllegalArgumentException  if time is less than an earlier timestamp, or a coordinate
+	 *                                   is out of range (see ConvexHull.checkRange())
+	 */
+	public void add(long time, int x, int y) throws IllegalArgumentException
+	{
+		ConvexHull.checkRange(x, y);
+		advanceTo(time);
+		if (next - first == times.length)
+			grow();
+		int i = (int) (next & (times.length - 1));
+		times[i] = time;
+		xs[i] = x;
+		ys[i] = y;
+		next++;
+		if (next % blockSize == 0)
+			closeBlock();
+		evict();
+	}
+
+
+	public void add(long time, Point p) throws IllegalArgumentException
+	{
+		add(time, p.getX(), p.getY());
+	}
+
+
+	/**
+	 * Moves the clock forward to time without adding a point, evicting the points that expire.
+	 *
+	 * @param time
+	 * @throws IllegalArgumentException  if time is less than an earlier timestamp
+	 */
+	public void advanceTo(long time) throws IllegalArgumentException
+	{
+		if (time < newest)
+			throw new IllegalArgumentException("timestamp " + time + " is before " + newest);
+		newest = time;
+		evict();
+	}
+
+
+	/**
+	 * @return number of points in the window, duplicates included
+	 */
+	public int size()
+	{
+		return (int) (next - first);
+	}
+
+
+	public boolean isEmpty()
+	{
+		return next == first;
+	}
+
+
+	/**
+	 * @return vertices of the convex hull of the points in the window, counterclockwise from the
+	 *         lowest one, with no collinear vertices; empty if the window is empty
+	 */
+	public PointStore getHull()
+	{
+		if (isEmpty())
+			return new PointStore();
+		long head = first / blockSize;
+		long open = next / blockSize;
+		if (head >= frontEnd)
+			return hullOf(first, next);   // all points are in the block still filling up
+
+		List<PointStore> parts = new ArrayList<PointStore>();
+		if (first % blockSize == 0)
+		{
+			parts.add(front[(int) (head - frontStart)]);
+		}
+		else
+		{
+			parts.add(hullOf(first, (head + 1) * blockSize));
+			if (head + 1 < frontEnd)
+				parts.add(front[(int) (head + 1 - frontStart)]);
+		}
+		parts.add(backHull);
+		if (next > open * blockSize)
+			parts.add(hullOf(open * blockSize, next));
+		return HullMerge.merge(parts.toArray(new PointStore[parts.size()]));
+	}
+
+
+	/**
+	 * @return the points of getHull() as Point objects
+	 */
+	public Point[] getHullVertices()
+	{
+		return getHull().toPoints();
+	}
+
+
+	/**
+	 * Drops the expired points from the ring buffer, then the blocks left without live points
+	 * from the front.  When the oldest live point is no longer in the front, the back becomes the
+	 * front.
+	 */
+	private void evict()
+	{
+		while (first < next)
+		{
+			int i = (int) (first & (times.length - 1));
+			if (next - first <= capacity && !expired(times[i]))
+				break;
+			first++;
+		}
+
+		long head = first / blockSize;
+		long open = next / blockSize;
+		if (head < frontEnd)
+			return;
+		if (head >= open)
+		{
+			// no full block has live points
+			front = new PointStore[0];
+			frontStart = open;
+			frontEnd = open;
+			back.clear();
+			backHull = new PointStore();
+			return;
+		}
+
+		// sweep the live blocks of the back from the youngest to the oldest
+		PointStore[] sweep = new PointStore[(int) (open - head)];
+		PointStore hull = new PointStore();
+		for (long b = open - 1; b >= head; b--)
+		{
+			hull = HullMerge.merge(back.get((int) (b - frontEnd)), hull);
+			sweep[(int) (b - head)] = hull;
+		}
+		front = sweep;
+		frontStart = head;
+		frontEnd = open;
+		back.clear();
+		backHull = new PointStore();
+	}
+
+
+	/**
+	 * Tells whether a point with the given timestamp is at least span older than newest.  The
+	 * difference is not computed, since it overflows for timestamps more than Long.MAX_VALUE
+	 * apart.
+	 */
+	private boolean expired(long time)
+	{
+		if (span == Long.MAX_VALUE || newest < Long.MIN_VALUE + span)
+			return false;
+		return time <= newest - span;
+	}
+
+
+	/**
+	 * Computes the hull of the block just filled up and pushes it onto the back.
+	 */
+	private void closeBlock()
+	{
+		long start = next - blockSize;
+		PointStore hull = hullOf(Math.max(start, first), next);
+		back.add(hull);
+		backHull = HullMerge.merge(backHull, hull);
+	}
+
+
+	/**
+	 * @return hull of the points with sequence numbers from ... to - 1, which must be in the
+	 *         window
+	 */
+	private PointStore hullOf(long from, long to)
+	{
+		PointStore pts = new PointStore((int) (to - from));
+		for (long s = from; s < to; s++)
+		{
+			int i = (int) (s & (times.length - 1));
+			pts.add(xs[i], ys[i]);
+		}
+		if (pts.isEmpty())
+			return pts;
+		RadixSortPoints.sortUnique(pts);
+		int n = pts.size();
+		int[] chain = new int[2 * n];
+		int count = MonotoneChain.chainHull(pts, 0, n, chain, 0);
+		PointStore hull = new PointStore(count);
+		for (int k = 0; k < count; k++)
+		{
+			hull.add(pts.getX(chain[k]), pts.getY(chain[k]));
+		}
+		return hull;
+	}
+
+
+	/**
+	 * Doubles the ring buffer, keeping every point at the index of its sequence number.
+	 */
+	private void grow()
+	{
+		int length = times.length;
+		long[] newTimes = new long[2 * length];
+		int[] newXs = new int[2 * length];
+		int[] newYs = new int[2 * length];
+		for (long s = first; s < next; s++)
+		{
+			int i = (int) (s & (length - 1));
+			int j = (int) (s & (2 * length - 1));
+			newTimes[j] = times[i];
+			newXs[j] = xs[i];
+			newYs[j] = ys[i];
+		}
+		times = newTimes;
+		xs = newXs;
+		ys = newYs;
+	}
+}
@@ -0,0 +1,110 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+import java.io.FileNotFoundException;
+import java.util.InputMismatchException;
+
+/**
+ *
+ * Convex hull of an input file too large to be held in memory.
+ *
+ * The points of the file are streamed into a StreamingHullBuilder, which keeps only the current
+ * hull and one block of points; a file in the binary format of BinaryPointFile is streamed as
+ * well.  pointsNoDuplicate then holds only the vertices of the convex hull, from which
+ * constructHull() fills hullVertices[], so toString(), writeHullToFile() and draw() work as for
+ * the other engines.  Collinear points are left out of the hull.
+ *
+ */
+public class StreamingHull extends ConvexHull
+{
+	/**
+	 * Streams the points of an input file with the default block size.
+	 *
+	 * @param  inputFileName
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers or a
+	 *                                  coordinate out of range, or is a malformed binary point file
+	 * @throws IllegalArgumentException  if the file has no points
+	 */
+	public StreamingHull(String inputFileName) throws FileNotFoundException, InputMismatchException, IllegalArgumentException
+	{
+		this(stream(inputFileName, new StreamingHullBuilder()));
+	}
+
+
+	/**
+	 * Streams the points of an input file in blocks of blockSize points.
+	 *
+	 * @param  inputFileName
+	 * @param  blockSize
+	 * @throws FileNotFoundException
+	 * @throws InputMismatchException   when the input file contains an odd number of integers or a
+	 *                                  coordinate out of range, or is a malformed binary point file
+	 * @throws IllegalArgumentException  if the file has no points, or blockSize < 1
+	 */
+	public StreamingHull(String inputFileName, int blockSize) throws FileNotFoundException, InputMismatchException, IllegalArgumentException
+	{
+		this(stream(inputFileName, new StreamingHullBuilder(blockSize)));
+	}
+
+
+	/**
+	 * Takes the hull of the points fed to builder so far.
+	 *
+	 * @param  builder
+	 * @throws IllegalArgumentException  if builder has not received any point
+	 */
+	public StreamingHull(StreamingHullBuilder builder) throws IllegalArgumentException
+	{
+		super(builder.getHull());
+		algorithm = "Streaming Hull";
+		inputSize = (int) Math.min(builder.getPointCount(), Integer.MAX_VALUE);
+	}
+
+
+	/**
+	 * Feeds the points of an input file to builder.  A coordinate out of range, which builder
+	 * rejects with an IllegalArgumentException, is reported as an InputMismatchException.
+	 *
+	 * @return builder
+	 */
+	private static StreamingHullBuilder stream(String inputFileName, StreamingHullBuilder builder) throws FileNotFoundException, InputMismatchException
+	{
+		try
+		{
+			if (BinaryPointFile.isBinary(inputFileName))
+				BinaryPointFile.read(inputFileName, builder);
+			else
+				MappedPointReader.read(inputFileName, builder);
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new InputMismatchException(e.getMessage());
+		}
+		return builder;
+	}
+
+
+	/**
+	 * pointsNoDuplicate holds just the hull vertices, sorted bottom-up; build the hull over them.
+	 */
+	public void constructHull()
+	{
+		long startTime = System.nanoTime();
+		int n = pointsNoDuplicate.size();
+		int[] chain = new int[2 * n];
+		int count = MonotoneChain.chainHull(pointsNoDuplicate, 0, n, chain, 0);
+		hullVertices = new Point[count];
+		for (int i = 0; i < count; i++)
+		{
+			hullVertices[i] = pointsNoDuplicate.toPoint(chain[i]);
+		}
+		long endTime = System.nanoTime();
+		this.time = endTime - startTime;
+	}
+}
@@ -0,0 +1,183 @@
+package convexHull;
+
+/**
+ *
+ * @author Luke Fernando
+ *
+ */
+
+/**
+ *
+ * Builds the convex hull of a stream of points in memory proportional to the hull plus one block.
+ *
+ * The builder keeps the vertices of the convex hull of the points received so far, as of the last
+ * fold, and a block of at most blockSize further points.  A new point inside or on the boundary of
+ * the kept hull cannot be a hull vertex and is discarded at once, by an O(log h) search of the
+ * triangle fan around the lowest vertex.  Any other point goes into the block; when the block is
+ * full, it is folded into the hull by sorting the hull vertices together with the block with
+ * RadixSortPoints and running MonotoneChain.chainHull() over them.
+ *
+ * The points must have coordinates within ConvexHull.MAX_COORDINATE in absolute value; add()
+ * rejects any other point.
+ *
+ */
+public class StreamingHullBuilder implements PointSink
+{
+	private static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+	private int blockSize;
+
+	private PointStore hull = new PointStore();   // counterclockwise from the lowest vertex
+
+	private PointStore block;                     // points not yet folded into hull
+
+	private long pointCount;                      // number of points received
+
+
+	/**
+	 * Constructs a builder with the default block size.
+	 */
+	public StreamingHullBuilder()
+	{
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+
+	/**
+	 * @param blockSize
+	 * @throws IllegalArgumentException  if blockSize < 1
+	 */
+	public StreamingHullBuilder(int blockSize) throws IllegalArgumentException
+	{
+		if (blockSize < 1)
+			throw new IllegalArgumentException("block size must be positive");
+		this.blockSize = blockSize;
+		block = new PointStore(blockSize);
+	}
+
+
+	/**
+	 * Receive the point (x, y).
+	 *
+	 * @throws IllegalArgumentException  if a coordinate is out of range (see ConvexHull.checkRange())
+	 */
+	public void add(int x, int y) throws IllegalArgumentException
+	{
+		ConvexHull.checkRange(x, y);
+		pointCount++;
+		if (covers(x, y))
+			return;
+		block.add(x, y);
+		if (block.size() == blockSize)
+			fold();
+	}
+
+
+	public void add(Point p) throws IllegalArgumentException
+	{
+		add(p.getX(), p.getY());
+	}
+
+
+	/**
+	 * @return number of points received, duplicates and discarded points included
+	 */
+	public long getPointCount()
+	{
+		return pointCount;
+	}
+
+
+	/**
+	 * Folds the pending block into the hull.
+	 *
+	 * @return vertices of the convex hull of all points received, counterclockwise from the lowest
+	 *         one, with no collinear vertices; empty if no point has been received.  The store is
+	 *         a copy.
+	 */
+	public PointStore getHull()
+	{
+		if (!block.isEmpty())
+			fold();
+		return new PointStore(hull);
+	}
+
+
+	/**
+	 * Replaces hull with the convex hull of its vertices and the points in block, and empties
+	 * block.
+	 */
+	private void fold()
+	{
+		PointStore pts = new PointStore(hull.size() + block.size());
+		for (int i = 0; i < hull.size(); i++)
+		{
+			pts.add(hull.getX(i), hull.getY(i));
+		}
+		for (int i = 0; i < block.size(); i++)
+		{
+			pts.add(block.getX(i), block.getY(i));
+		}
+		block.truncate(0);
+
+		RadixSortPoints.sortUnique(pts);
+		int n = pts.size();
+		int[] chain = new int[2 * n];
+		int count = MonotoneChain.chainHull(pts, 0, n, chain, 0);
+		hull = new PointStore(count);
+		for (int i = 0; i < count; i++)
+		{
+			hull.add(pts.getX(chain[i]), pts.getY(chain[i]));
+		}
+	}
+
+
+	/**
+	 * @return true if (x, y) lies inside or on the boundary of the hull as of the last fold,
+	 *         which must have at least three vertices to cover anything; add() discards such a
+	 *         point.  Points still in the block are not taken into account.
+	 */
+	public boolean covers(int x, int y)
+	{
+		int h = hull.size();
+		if (h < 3)
+			return false;
+		int x0 = hull.getX(0);
+		int y0 = hull.getY(0);
+		long first = PolarAngleComparator.crossProduct(x0, y0, hull.getX(1), hull.getY(1), x, y);
+		long last = PolarAngleComparator.crossProduct(x0, y0, hull.getX(h - 1), hull.getY(h - 1), x, y);
+		if (first < 0 || last > 0)
+			return false;
+		if (first == 0)
+			return onSegment(1, x, y);
+		if (last == 0)
+			return onSegment(h - 1, x, y);
+
+		// wedge between the rays from hull[0] through hull[lo] and hull[lo + 1]
+		int lo = 1;
+		int hi = h - 1;
+		while (hi - lo > 1)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (PolarAngleComparator.crossProduct(x0, y0, hull.getX(mid), hull.getY(mid), x, y) >= 0)
+				lo = mid;
+			else
+				hi = mid;
+		}
+		return PolarAngleComparator.crossProduct(hull.getX(lo), hull.getY(lo), hull.getX(hi), hull.getY(hi), x, y) >= 0;
+	}
+
+
+	/**
+	 * @return true if (x, y), which lies on the line through hull[0] and hull[i], lies on the
+	 *         segment between them
+	 */
+	private boolean onSegment(int i, int x, int y)
+	{
+		int x0 = hull.getX(0);
+		int y0 = hull.getY(0);
+		long dot = PolarAngleComparator.dotProduct(x0, y0, hull.getX(i), hull.getY(i), x, y);
+		long length = PolarAngleComparator.dotProduct(x0, y0, hull.getX(i), hull.getY(i), hull.getX(i), hull.getY(i));
+		return dot >= 0 && dot <= length;
+	}
+}
@@ -14,7 +14,7 @@ import java.util.Comparator;
  *
  */
 
-public class YComparator implements Comparator<Point> {
+public class YComparator implements Comparator<Point>, CoordinateComparator {
 	
 	/**
 	 * compare the points by y coordinate. If they both have the same y coordinate,
@@ -28,4 +28,16 @@ public class YComparator implements Comparator<Point> {
 	{
 		return p1.compareTo(p2);
 	}
+	
+	/**
+	 * Same bottom-up order as compare(Point, Point) on the points (x1, y1) and (x2, y2). 
+	 */
+	public int compare(int x1, int y1, int x2, int y2)
+	{
+		if (y1 < y2 || (y1 == y2 && x1 < x2))
+			return -1;
+		if (y1 == y2 && x1 == x2)
+			return 0;
+		return 1;
+	}
 }
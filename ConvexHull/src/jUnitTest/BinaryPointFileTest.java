@@ -0,0 +1,157 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.InputMismatchException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.BinaryPointFile;
+import convexHull.ChanHull;
+import convexHull.GrahamScan;
+import convexHull.Point;
+import convexHull.PointStore;
+
+public class BinaryPointFileTest {
+
+	private static final byte[] MAGIC = { (byte) 0x89, 'C', 'H', 'P' };
+
+	private static File tempFile() throws IOException {
+		File file = File.createTempFile("points", ".bin");
+		file.deleteOnExit();
+		return file;
+	}
+
+	private static File writeBytes(byte[] bytes) throws IOException {
+		File file = tempFile();
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(bytes);
+		out.close();
+		return file;
+	}
+
+	/**
+	 * @return a file with the given header followed by the coordinates
+	 */
+	private static File writeRaw(byte[] magic, int width, long count, int... coordinates) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(BinaryPointFile.HEADER_SIZE + 4 * coordinates.length).order(ByteOrder.LITTLE_ENDIAN);
+		buf.put(magic);
+		buf.putInt(width);
+		buf.putLong(count);
+		for (int c : coordinates)
+			buf.putInt(c);
+		return writeBytes(buf.array());
+	}
+
+	private static void assertRejected(File file) throws IOException {
+		try {
+			BinaryPointFile.read(file.getPath());
+			fail("read " + file);
+		} catch (InputMismatchException e) {
+		}
+		try {
+			BinaryPointFile.read(file.getPath(), new PointStore());
+			fail("streamed " + file);
+		} catch (InputMismatchException e) {
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		Random random = new Random(20);
+		for (int n : new int[] { 0, 1, 2, 1000, 20000 }) {
+			Point[] pts = new Point[n];
+			for (int i = 0; i < n; i++)
+				pts[i] = new Point(random.nextInt(), random.nextInt());
+			if (n > 1) {
+				pts[0] = new Point(Integer.MIN_VALUE, Integer.MAX_VALUE);
+				pts[1] = new Point(-1, 0);
+			}
+			File file = tempFile();
+			BinaryPointFile.write(pts, file.getPath());
+			assertEquals(BinaryPointFile.HEADER_SIZE + 8L * n, file.length());
+			assertTrue(BinaryPointFile.isBinary(file.getPath()));
+			assertArrayEquals(pts, BinaryPointFile.read(file.getPath()).toPoints());
+
+			PointStore streamed = new PointStore();
+			BinaryPointFile.read(file.getPath(), streamed);
+			assertArrayEquals(pts, streamed.toPoints());
+
+			// written from a store
+			File copy = tempFile();
+			BinaryPointFile.write(streamed, copy.getPath());
+			assertArrayEquals(pts, BinaryPointFile.read(copy.getPath()).toPoints());
+		}
+	}
+
+	@Test
+	public void testBadMagic() throws IOException {
+		assertRejected(writeRaw(new byte[] { (byte) 0x89, 'C', 'H', 'Q' }, 4, 1, 3, 4));
+		assertFalse(BinaryPointFile.isBinary(writeRaw(new byte[] { '1', ' ', '2', ' ' }, 4, 0).getPath()));
+	}
+
+	@Test
+	public void testUnsupportedWidth() throws IOException {
+		assertRejected(writeRaw(MAGIC, 8, 1, 3, 0, 4, 0));
+		assertRejected(writeRaw(MAGIC, 2, 1, 3));
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		// the header promises three points, the body holds two and a half
+		assertRejected(writeRaw(MAGIC, 4, 3, 1, 2, 3, 4, 5));
+		// shorter than the header
+		assertRejected(writeBytes(new byte[] { (byte) 0x89, 'C', 'H', 'P', 4, 0, 0, 0 }));
+		assertRejected(writeRaw(MAGIC, 4, -1));
+	}
+
+	@Test
+	public void testIsBinaryOnShortFiles() throws IOException {
+		for (String text : new String[] { "", "7", "1 2", "-3\n" }) {
+			File file = writeFile(text);
+			assertFalse(text, BinaryPointFile.isBinary(file.getPath()));
+		}
+		assertFalse(BinaryPointFile.isBinary(writeBytes(new byte[] { (byte) 0x89, 'C', 'H' }).getPath()));
+		assertTrue(BinaryPointFile.isBinary(writeBytes(MAGIC).getPath()));
+		assertFalse(BinaryPointFile.isBinary(new File(tempFile().getPath() + ".missing").getPath()));
+	}
+
+	@Test
+	public void testEngineFromBinaryFile() throws IOException {
+		Point[] pts = randomPoints(new Random(21), 5000, 1000);
+		File file = tempFile();
+		BinaryPointFile.write(pts, file.getPath());
+
+		GrahamScan fromFile = new GrahamScan(file.getPath());
+		fromFile.constructHull();
+		GrahamScan fromArray = new GrahamScan(pts);
+		fromArray.constructHull();
+		assertArrayEquals(fromArray.getHullVertices(), fromFile.getHullVertices());
+		assertSameHull("ChanHull", pts, new ChanHull(file.getPath()));
+	}
+
+	@Test
+	public void testWriteHullToBinaryFile() throws IOException {
+		Point[] pts = randomPoints(new Random(22), 500, 100);
+		ChanHull chan = new ChanHull(pts);
+		chan.constructHull();
+		File hull = new File("hull.bin");
+		try {
+			chan.writeHullToFile(true);
+			assertTrue(BinaryPointFile.isBinary(hull.getPath()));
+			assertArrayEquals(chan.getHullVertices(), BinaryPointFile.read(hull.getPath()).toPoints());
+
+			// and read back by an engine
+			assertSameHull("hull.bin", pts, new ChanHull(hull.getPath()));
+		} finally {
+			hull.delete();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.ChanHull;
+import convexHull.Point;
+
+public class ChanHullTest {
+
+	/**
+	 * @return the h > 3 vertices (i, i * i) of a convex polygon, and the point right above every
+	 *         vertex but the first and the last, which lies strictly inside
+	 */
+	private static Point[] parabola(int h) {
+		Point[] pts = new Point[2 * h - 2];
+		int n = 0;
+		for (int i = 0; i < h; i++) {
+			pts[n++] = new Point(i, i * i);
+			if (i > 0 && i < h - 1)
+				pts[n++] = new Point(i, i * i + 1);
+		}
+		return pts;
+	}
+
+	@Test
+	public void testDegenerate() {
+		int i = 0;
+		for (Point[] pts : degenerateSets())
+			assertSameHull("set " + i++, pts, new ChanHull(pts));
+	}
+
+	@Test
+	public void testRetriesWithLargerGroups() {
+		// wrap() gives up on a hull of more than m vertices: 5 vertices fail at m = 4 (t = 1),
+		// 17 at m = 4 and m = 16 (t = 2), 257 at m = 256 as well; h = m closes just in time
+		for (int h : new int[] { 4, 5, 16, 17, 256, 257 }) {
+			Point[] pts = parabola(h);
+			assertEquals(h, expectedHull(pts).length);
+			assertSameHull(h + " vertices", pts, new ChanHull(pts));
+		}
+	}
+
+	@Test
+	public void testRandomGrids() {
+		Random random = new Random(3);
+		for (int t = 0; t < 500; t++) {
+			Point[] pts = randomPoints(random, 1 + random.nextInt(200), 1 + random.nextInt(8));
+			assertSameHull("set " + t, pts, new ChanHull(pts));
+		}
+	}
+
+	@Test
+	public void testManyHullVertices() {
+		// points near a circle, so that the hull outgrows the first guesses of its size and the
+		// tangents are searched for on large mini hulls
+		Random random = new Random(4);
+		for (int t = 0; t < 20; t++) {
+			Point[] pts = circlePoints(random, 100 + random.nextInt(3000), 100000);
+			assertSameHull("set " + t, pts, new ChanHull(pts));
+		}
+	}
+}
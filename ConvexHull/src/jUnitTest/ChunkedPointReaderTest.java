@@ -0,0 +1,84 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.ChunkedPointReader;
+import convexHull.GrahamScan;
+import convexHull.HullOptions;
+import convexHull.Point;
+import convexHull.PointStore;
+
+public class ChunkedPointReaderTest {
+
+	/**
+	 * Hull vertices that GrahamScan finds when it reads file with a MappedPointReader.
+	 */
+	private static Point[] mappedHull(File file) throws IOException {
+		GrahamScan graham = new GrahamScan(file.getPath());
+		graham.constructHull();
+		return graham.getHullVertices();
+	}
+
+	/**
+	 * Hull vertices that GrahamScan finds on the points a ChunkedPointReader keeps from file,
+	 * read in ranges of about chunkSize bytes.
+	 */
+	private static Point[] chunkedHull(File file, int chunkSize) throws IOException {
+		ChunkedPointReader reader = new ChunkedPointReader(file.getPath());
+		reader.setChunkSize(chunkSize);
+		PointStore pts = reader.read(ForkJoinPool.commonPool());
+		GrahamScan graham = new GrahamScan(pts);
+		graham.constructHull();
+		return graham.getHullVertices();
+	}
+
+	@Test
+	public void testGrahamScanKeepsCollinearPoints() throws IOException {
+		File file = writeFile("0 0 4 0 2 0 4 4 0 4 2 4 0 2 1 1 4 2");
+		Point[] expected = { new Point(0, 0), new Point(2, 0), new Point(4, 0), new Point(4, 2),
+				new Point(4, 4), new Point(2, 4), new Point(0, 4) };
+		assertArrayEquals(expected, mappedHull(file));
+
+		HullOptions options = new HullOptions();
+		options.setChunkedInput(ForkJoinPool.commonPool());
+		GrahamScan graham = new GrahamScan(file.getPath(), options);
+		graham.constructHull();
+		assertArrayEquals(expected, graham.getHullVertices());
+
+		for (int chunkSize = 1; chunkSize <= 12; chunkSize++)
+			assertArrayEquals(expected, chunkedHull(file, chunkSize));
+	}
+
+	@Test
+	public void testGrahamScanChunkedMatchesMapped() throws IOException {
+		Random random = new Random(18);
+		for (int t = 0; t < 300; t++) {
+			// small grids, some points on a line, so that many points are collinear
+			int range = 1 + random.nextInt(5);
+			int n = 1 + random.nextInt(50);
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < n; i++) {
+				int x = random.nextInt(2 * range + 1) - range;
+				int y = random.nextInt(4) == 0 ? 2 * x + 1 : random.nextInt(2 * range + 1) - range;
+				sb.append(x).append(' ').append(y).append(random.nextBoolean() ? '\n' : ' ');
+			}
+			File file = writeFile(sb.toString());
+			assertArrayEquals(sb.toString(), mappedHull(file), chunkedHull(file, 1 + random.nextInt(24)));
+		}
+	}
+
+	@Test
+	public void testGrahamScanChunkedCollinearInput() throws IOException {
+		File file = writeFile("3 3 -1 -1 1 1 0 0 2 2 -1 -1 3 3");
+		assertArrayEquals(mappedHull(file), chunkedHull(file, 4));
+		assertArrayEquals(mappedHull(file), chunkedHull(file, 1 << 20));
+	}
+}
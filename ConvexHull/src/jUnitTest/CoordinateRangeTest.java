@@ -0,0 +1,192 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.BinaryPointFile;
+import convexHull.ChanHull;
+import convexHull.ChunkedPointReader;
+import convexHull.ConvexHull;
+import convexHull.DynamicHull;
+import convexHull.GrahamScan;
+import convexHull.HullBatch;
+import convexHull.HullOptions;
+import convexHull.IncrementalHull;
+import convexHull.JarvisMarch;
+import convexHull.MonotoneChain;
+import convexHull.Point;
+import convexHull.PointStore;
+import convexHull.SlidingWindowHull;
+import convexHull.StreamingHull;
+import convexHull.StreamingHullBuilder;
+
+public class CoordinateRangeTest {
+
+	private static final int BOUND = ConvexHull.MAX_COORDINATE;
+
+	// ChanHull and JarvisMarch never finished on these points before they were rejected
+	private static final Point[] WIDE = { new Point(Integer.MIN_VALUE, -701269265), new Point(639698953, -1759480470),
+			new Point(1749203774, -1668524689), new Point(-668361994, 451668028),
+			new Point(Integer.MAX_VALUE, 2045572049) };
+
+	private static File writeBinary(Point[] pts) throws IOException {
+		File file = File.createTempFile("points", ".bin");
+		file.deleteOnExit();
+		BinaryPointFile.write(pts, file.getPath());
+		return file;
+	}
+
+	/**
+	 * Points inside the range, and one just outside it in the given corner.
+	 */
+	private static Point[] withOutlier(int x, int y) {
+		return new Point[] { new Point(0, 0), new Point(BOUND, -BOUND), new Point(-BOUND, BOUND), new Point(x, y) };
+	}
+
+	@Test
+	public void testBoundIsAccepted() {
+		Point[] pts = { new Point(-BOUND, -BOUND), new Point(BOUND, -BOUND), new Point(BOUND, BOUND),
+				new Point(-BOUND, BOUND), new Point(0, 0) };
+		assertTrue(ConvexHull.inRange(BOUND, -BOUND));
+		ChanHull chan = new ChanHull(pts);
+		chan.constructHull();
+		assertArrayEquals(Arrays.copyOf(pts, 4), chan.getHullVertices());
+	}
+
+	@Test(timeout = 10000)
+	public void testEnginesRejectWideCoordinates() {
+		try {
+			new ChanHull(WIDE);
+			fail("ChanHull accepted " + WIDE[0]);
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			new JarvisMarch(new PointStore(WIDE));
+			fail("JarvisMarch accepted " + WIDE[0]);
+		} catch (IllegalArgumentException e) {
+		}
+		int[][] outliers = { { BOUND + 1, 0 }, { 0, BOUND + 1 }, { -BOUND - 1, 0 }, { 0, -BOUND - 1 },
+				{ Integer.MIN_VALUE, Integer.MIN_VALUE } };
+		for (int[] o : outliers) {
+			assertFalse(ConvexHull.inRange(o[0], o[1]));
+			try {
+				new MonotoneChain(withOutlier(o[0], o[1]));
+				fail("MonotoneChain accepted (" + o[0] + ", " + o[1] + ")");
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testFilesRejectWideCoordinates() throws IOException {
+		File text = writeFile("0 0 5 5 " + (BOUND + 1) + " 3 1 1");
+		try {
+			new GrahamScan(text.getPath());
+			fail("text file accepted");
+		} catch (InputMismatchException e) {
+		}
+		try {
+			new StreamingHull(text.getPath(), 2);
+			fail("streamed text file accepted");
+		} catch (InputMismatchException e) {
+		}
+
+		HullOptions chunked = new HullOptions();
+		chunked.setChunkedInput(ForkJoinPool.commonPool());
+		try {
+			new GrahamScan(text.getPath(), chunked);
+			fail("chunked text file accepted");
+		} catch (InputMismatchException e) {
+		}
+		ChunkedPointReader reader = new ChunkedPointReader(text.getPath());
+		reader.setChunkSize(4);
+		try {
+			reader.read(ForkJoinPool.commonPool());
+			fail("text file read in ranges accepted");
+		} catch (InputMismatchException e) {
+		}
+
+		File binary = writeBinary(WIDE);
+		try {
+			new ChanHull(binary.getPath());
+			fail("binary file accepted");
+		} catch (InputMismatchException e) {
+		}
+		try {
+			new StreamingHull(binary.getPath());
+			fail("streamed binary file accepted");
+		} catch (InputMismatchException e) {
+		}
+	}
+
+	@Test
+	public void testIntegersAfterTheLastPointAreIgnored() throws IOException {
+		// reading stops at "x", so the wide integer after it is never a coordinate
+		File file = writeFile("0 0 4 0 0 4 x " + Integer.MIN_VALUE);
+		HullOptions chunked = new HullOptions();
+		chunked.setChunkedInput(ForkJoinPool.commonPool());
+		GrahamScan graham = new GrahamScan(file.getPath(), chunked);
+		graham.constructHull();
+		assertArrayEquals(new Point[] { new Point(0, 0), new Point(4, 0), new Point(0, 4) }, graham.getHullVertices());
+	}
+
+	@Test
+	public void testStructuresRejectWideCoordinates() {
+		Point wide = new Point(BOUND + 1, 0);
+
+		IncrementalHull incremental = new IncrementalHull();
+		incremental.add(0, 0);
+		try {
+			incremental.add(wide);
+			fail("IncrementalHull accepted " + wide);
+		} catch (IllegalArgumentException e) {
+		}
+		assertArrayEquals(new Point[] { new Point(0, 0) }, incremental.getHullVertices());
+
+		try {
+			new DynamicHull(WIDE);
+			fail("DynamicHull accepted " + WIDE[0]);
+		} catch (IllegalArgumentException e) {
+		}
+		DynamicHull dynamic = new DynamicHull();
+		try {
+			dynamic.insert(wide);
+			fail("DynamicHull.insert() accepted " + wide);
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(0, dynamic.getHullVertices().length);
+
+		StreamingHullBuilder builder = new StreamingHullBuilder(2);
+		try {
+			builder.add(0, -BOUND - 1);
+			fail("StreamingHullBuilder accepted (0, " + (-BOUND - 1) + ")");
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(0, builder.getPointCount());
+
+		SlidingWindowHull window = new SlidingWindowHull(2);
+		window.add(0, new Point(1, 1));
+		try {
+			window.add(5, wide);
+			fail("SlidingWindowHull accepted " + wide);
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(1, window.size());
+
+		HullBatch batch = new HullBatch();
+		batch.setExecutor(ForkJoinPool.commonPool());
+		try {
+			batch.computeHullVertices(Arrays.asList(new Point[] { new Point(0, 0) }, WIDE));
+			fail("HullBatch accepted " + WIDE[0]);
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.DivideAndConquerHull;
+import convexHull.Point;
+
+public class DivideAndConquerHullTest {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private static DivideAndConquerHull slabs(Point[] pts, int slabCount) {
+		DivideAndConquerHull hull = new DivideAndConquerHull(pts);
+		hull.setSlabCount(slabCount);
+		hull.setPool(POOL);
+		return hull;
+	}
+
+	/**
+	 * Checks the hull for several slab counts, up to one slab per point, so that single points
+	 * and segments are merged too.
+	 */
+	private static void assertSlabCounts(String message, Point[] pts) {
+		for (int slabCount : new int[] { 1, 2, 3, 7, pts.length })
+			assertSameHull(message + ", " + slabCount + " slabs", pts, slabs(pts, slabCount));
+	}
+
+	@Test
+	public void testDegenerate() {
+		int i = 0;
+		for (Point[] pts : degenerateSets())
+			assertSlabCounts("set " + i++, pts);
+	}
+
+	@Test
+	public void testMoreSlabsThanPoints() {
+		// the slab count is capped at the number of distinct points, which duplicates make
+		// smaller than the input
+		Random random = new Random(18);
+		for (int t = 0; t < 100; t++) {
+			Point[] pts = randomPoints(random, 1 + random.nextInt(40), 1 + random.nextInt(3));
+			for (int slabCount : new int[] { pts.length + 1, 2 * pts.length + 5, Integer.MAX_VALUE })
+				assertSameHull("set " + t + ", " + slabCount + " slabs", pts, slabs(pts, slabCount));
+		}
+	}
+
+	@Test
+	public void testCollinearAcrossSlabs() {
+		// slabs whose hulls are horizontal segments, and edges that run through several slabs
+		Point[] pts = new Point[60];
+		for (int i = 0; i < pts.length; i++)
+			pts[i] = new Point(i % 6 - (i / 6 % 2 == 0 ? 0 : 3), i / 6);
+		assertSlabCounts("staggered rows", pts);
+	}
+
+	@Test
+	public void testRandomGrids() {
+		Random random = new Random(16);
+		for (int t = 0; t < 500; t++)
+			assertSlabCounts("set " + t, randomPoints(random, 1 + random.nextInt(150), 1 + random.nextInt(8)));
+	}
+
+	@Test
+	public void testRandomWide() {
+		Random random = new Random(17);
+		for (int t = 0; t < 20; t++)
+			assertSlabCounts("set " + t, randomPoints(random, 1000 + random.nextInt(5000), 1000000));
+	}
+}
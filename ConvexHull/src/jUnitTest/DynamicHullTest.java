@@ -0,0 +1,127 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.DynamicHull;
+import convexHull.Point;
+
+public class DynamicHullTest {
+
+	/**
+	 * Interleaves random insertions and deletions, with points drawn from a small grid so that
+	 * there are many duplicates and collinear points, and checks the hull after every step.
+	 */
+	private static void randomUpdates(long seed, int range, int steps) {
+		Random random = new Random(seed);
+		DynamicHull hull = new DynamicHull();
+		List<Point> live = new ArrayList<Point>();
+		for (int step = 0; step < steps; step++) {
+			int op = random.nextInt(10);
+			if (op < 5 || live.isEmpty()) {
+				Point p = new Point(random.nextInt(2 * range + 1) - range, random.nextInt(2 * range + 1) - range);
+				hull.insert(p);
+				live.add(p);
+			} else if (op < 6) {
+				// a copy of a live point, so that it is counted twice
+				Point p = new Point(live.get(random.nextInt(live.size())));
+				hull.insert(p);
+				live.add(p);
+			} else if (op < 9) {
+				Point p = live.remove(random.nextInt(live.size()));
+				assertTrue(hull.delete(p));
+			} else {
+				// a point that may or may not be present
+				Point p = new Point(random.nextInt(2 * range + 3) - range - 1, random.nextInt(2 * range + 3) - range - 1);
+				assertEquals(live.remove(p), hull.delete(p));
+			}
+			assertEquals(live.size(), hull.size());
+			assertArrayEquals("step " + step, expectedHull(live), hull.getHullVertices());
+		}
+	}
+
+	@Test
+	public void testRandomUpdates() {
+		for (int seed = 0; seed < 20; seed++)
+			randomUpdates(seed, 1 + seed % 6, 400);
+	}
+
+	@Test
+	public void testRandomUpdatesWideRange() {
+		randomUpdates(23, 1000000, 2000);
+	}
+
+	@Test
+	public void testDuplicates() {
+		DynamicHull hull = new DynamicHull();
+		Point p = new Point(3, -2);
+		for (int i = 0; i < 5; i++)
+			hull.insert(p);
+		assertArrayEquals(new Point[] { p }, hull.getHullVertices());
+
+		hull.insert(7, 1);
+		assertArrayEquals(new Point[] { p, new Point(7, 1) }, hull.getHullVertices());
+		assertTrue(hull.delete(7, 1));
+		assertFalse(hull.delete(7, 1));
+
+		// p stays until deleted as often as it was inserted
+		for (int i = 0; i < 4; i++) {
+			assertTrue(hull.delete(p));
+			assertArrayEquals(new Point[] { p }, hull.getHullVertices());
+		}
+		assertTrue(hull.delete(p));
+		assertFalse(hull.delete(p));
+		assertTrue(hull.isEmpty());
+		assertEquals(0, hull.getHullVertices().length);
+	}
+
+	@Test
+	public void testDeleteFromEmpty() {
+		DynamicHull hull = new DynamicHull();
+		assertFalse(hull.delete(0, 0));
+		assertEquals(0, hull.getHullVertices().length);
+	}
+
+	@Test
+	public void testCollinear() {
+		DynamicHull hull = new DynamicHull();
+		List<Point> live = new ArrayList<Point>();
+		for (int i = 0; i < 10; i++) {
+			Point p = new Point(3 * i - 10, 2 * i + 1);
+			hull.insert(p);
+			live.add(p);
+			assertArrayEquals(expectedHull(live), hull.getHullVertices());
+		}
+		// remove the ends, then the middle
+		for (int i : new int[] { 9, 0, 5, 8, 1 }) {
+			Point p = new Point(3 * i - 10, 2 * i + 1);
+			assertTrue(hull.delete(p));
+			live.remove(p);
+			assertArrayEquals(expectedHull(live), hull.getHullVertices());
+		}
+	}
+
+	@Test
+	public void testConstructFromArray() {
+		Random random = new Random(7);
+		Point[] pts = randomPoints(random, 300, 10);
+		DynamicHull hull = new DynamicHull(pts);
+		List<Point> live = new ArrayList<Point>();
+		for (Point p : pts)
+			live.add(p);
+		assertEquals(pts.length, hull.size());
+		assertArrayEquals(expectedHull(live), hull.getHullVertices());
+
+		for (int i = 0; i < pts.length; i++) {
+			assertTrue(hull.delete(pts[i]));
+			live.remove(pts[i]);
+			assertArrayEquals(expectedHull(live), hull.getHullVertices());
+		}
+	}
+}
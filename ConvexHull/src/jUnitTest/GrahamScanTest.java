@@ -0,0 +1,45 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.GrahamScan;
+import convexHull.HullOptions;
+import convexHull.Point;
+
+public class GrahamScanTest {
+
+	private static boolean allocationMeasurable() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		return bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled();
+	}
+
+	@Test
+	public void testScanAllocationOffByDefault() {
+		GrahamScan graham = new GrahamScan(randomPoints(new Random(11), 1000, 1000));
+		assertEquals(-1, graham.getScanAllocation());
+		graham.constructHull();
+		assertEquals(-1, graham.getScanAllocation());
+	}
+
+	@Test
+	public void testScanLoopDoesNotAllocate() {
+		// after a few hulls to warm up, the scan loop allocates nothing
+		HullOptions options = new HullOptions();
+		options.setMeasureAllocation(true);
+		Point[] pts = discPoints(new Random(11), 100000, 1000000);
+		GrahamScan graham = new GrahamScan(pts, options);
+		for (int t = 0; t < 20; t++)
+			graham.constructHull();
+		assertArrayEquals(expectedHull(pts), graham.getHullVertices());
+		assertEquals(allocationMeasurable() ? 0 : -1, graham.getScanAllocation());
+	}
+}
@@ -0,0 +1,139 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.HullBatch;
+import convexHull.Point;
+import convexHull.PointStore;
+
+public class HullBatchTest {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * Checks every hull of the batch, in the order of sets, against MonotoneChain.
+	 */
+	private static void assertBatch(HullBatch batch, List<Point[]> sets) {
+		List<Point[]> hulls = batch.computeHullVertices(sets);
+		assertEquals(sets.size(), hulls.size());
+		for (int i = 0; i < sets.size(); i++)
+			assertArrayEquals("set " + i, expectedHull(sets.get(i)), hulls.get(i));
+	}
+
+	/**
+	 * Random sets of up to maxSize points, one in ten of them empty.
+	 */
+	private static List<Point[]> randomSets(Random random, int count, int maxSize) {
+		List<Point[]> sets = new ArrayList<Point[]>();
+		for (int i = 0; i < count; i++) {
+			int n = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(maxSize);
+			sets.add(randomPoints(random, n, 1 + random.nextInt(i % 2 == 0 ? 5 : 100000)));
+		}
+		return sets;
+	}
+
+	@Test
+	public void testDegenerateSets() {
+		List<Point[]> sets = new ArrayList<Point[]>();
+		sets.add(new Point[0]);
+		sets.addAll(degenerateSets());
+		sets.add(new Point[0]);
+		HullBatch batch = new HullBatch();
+		assertBatch(batch, sets);
+		batch.setExecutor(POOL);
+		batch.setBatchSize(3);
+		assertBatch(batch, sets);
+	}
+
+	@Test
+	public void testRandomSets() {
+		// 3000 sets on the calling thread, on a pool, and on a pool one set per task
+		Random random = new Random(25);
+		List<Point[]> sets = randomSets(random, 3000, 200);
+		HullBatch batch = new HullBatch();
+		assertBatch(batch, sets);
+
+		batch.setExecutor(POOL);
+		assertBatch(batch, sets);
+		batch.setBatchSize(1);
+		assertBatch(batch, sets);
+
+		batch.setExecutor(null);
+		assertBatch(batch, sets);
+	}
+
+	@Test
+	public void testInputOrder() throws InterruptedException {
+		// sets of very different sizes, so that the tasks finish out of order; each hull must
+		// still land at the index of its set
+		Random random = new Random(26);
+		List<Point[]> sets = new ArrayList<Point[]>();
+		for (int i = 0; i < 64; i++) {
+			int n = i % 8 == 0 ? 20000 : 1 + i;
+			sets.add(circlePoints(random, n, 1000 + 10 * i));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			HullBatch batch = new HullBatch();
+			batch.setExecutor(executor);
+			batch.setBatchSize(1);
+			assertBatch(batch, sets);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testScratchReuse() {
+		// large sets first, so that the scratch buffers are larger than the sets of the second
+		// call and hold stale points beyond them
+		Random random = new Random(27);
+		HullBatch batch = new HullBatch();
+		List<Point[]> large = new ArrayList<Point[]>();
+		for (int i = 0; i < 4; i++)
+			large.add(circlePoints(random, 5000, 1000000));
+		assertBatch(batch, large);
+		assertBatch(batch, randomSets(random, 200, 12));
+
+		batch.setExecutor(POOL);
+		batch.setBatchSize(2);
+		assertBatch(batch, large);
+		assertBatch(batch, randomSets(random, 200, 12));
+	}
+
+	@Test
+	public void testStoresUnchanged() {
+		Random random = new Random(28);
+		List<PointStore> stores = new ArrayList<PointStore>();
+		List<Point[]> copies = new ArrayList<Point[]>();
+		for (Point[] pts : randomSets(random, 50, 40)) {
+			stores.add(new PointStore(pts));
+			copies.add(pts);
+		}
+		List<PointStore> hulls = new HullBatch().computeHulls(stores);
+		for (int i = 0; i < stores.size(); i++) {
+			assertArrayEquals(copies.get(i), stores.get(i).toPoints());
+			assertArrayEquals(expectedHull(copies.get(i)), hulls.get(i).toPoints());
+		}
+	}
+
+	@Test
+	public void testNoSets() {
+		assertTrue(new HullBatch().computeHulls(new ArrayList<PointStore>()).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBatchSizeZero() {
+		new HullBatch().setBatchSize(0);
+	}
+}
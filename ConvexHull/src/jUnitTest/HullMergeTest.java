@@ -0,0 +1,165 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.GrahamScan;
+import convexHull.HullMerge;
+import convexHull.Point;
+
+public class HullMergeTest {
+
+	/**
+	 * Hull as GrahamScan finds it, possibly with collinear vertices.
+	 */
+	private static Point[] grahamHull(Point[] pts) {
+		GrahamScan graham = new GrahamScan(pts);
+		graham.constructHull();
+		return graham.getHullVertices();
+	}
+
+	/**
+	 * @return the distinct points of pts in the bottom-up order of Point.compareTo()
+	 */
+	private static Point[] sortedDistinct(Point[] pts) {
+		Point[] sorted = pts.clone();
+		Arrays.sort(sorted);
+		List<Point> distinct = new ArrayList<Point>();
+		for (Point p : sorted) {
+			if (distinct.isEmpty() || !distinct.get(distinct.size() - 1).equals(p))
+				distinct.add(p);
+		}
+		return distinct.toArray(new Point[distinct.size()]);
+	}
+
+	/**
+	 * Splits pts into shards of random sizes, some points going to two shards, and checks that
+	 * merging the hulls of the shards gives the hull of pts.
+	 */
+	private static void assertMergeOfShards(Random random, Point[] pts, boolean graham) {
+		int k = 1 + random.nextInt(Math.min(pts.length, 6));
+		List<List<Point>> shards = new ArrayList<List<Point>>();
+		for (int s = 0; s < k; s++)
+			shards.add(new ArrayList<Point>());
+		for (int i = 0; i < pts.length; i++) {
+			shards.get(i < k ? i : random.nextInt(k)).add(pts[i]);
+			if (random.nextInt(4) == 0)
+				shards.get(random.nextInt(k)).add(pts[i]);
+		}
+		Point[][] hulls = new Point[k][];
+		for (int s = 0; s < k; s++) {
+			Point[] shard = shards.get(s).toArray(new Point[0]);
+			hulls[s] = graham ? grahamHull(shard) : expectedHull(shard);
+		}
+		assertArrayEquals(expectedHull(pts), HullMerge.merge(hulls));
+	}
+
+	/**
+	 * Checks that mergeAdjacent() gives the hull of pts for every split of its distinct points
+	 * into a lower and an upper part.
+	 */
+	private static void assertMergeAdjacent(Point[] pts) {
+		Point[] expected = expectedHull(pts);
+		Point[] sorted = sortedDistinct(pts);
+		for (int split = 1; split < sorted.length; split++) {
+			Point[] lower = expectedHull(Arrays.copyOfRange(sorted, 0, split));
+			Point[] upper = expectedHull(Arrays.copyOfRange(sorted, split, sorted.length));
+			assertArrayEquals("split at " + split, expected, HullMerge.mergeAdjacent(lower, upper));
+		}
+	}
+
+	@Test
+	public void testMergeSinglePoints() {
+		Point p = new Point(2, 2);
+		assertArrayEquals(new Point[] { p }, HullMerge.merge(new Point[] { p }));
+		assertArrayEquals(new Point[] { p }, HullMerge.merge(new Point[] { p }, new Point[] { new Point(p) }));
+		assertArrayEquals(new Point[] { p, new Point(5, 2) },
+				HullMerge.merge(new Point[] { new Point(5, 2) }, new Point[] { p }));
+	}
+
+	@Test
+	public void testMergeTwoPoints() {
+		Point[] a = { new Point(0, 0), new Point(4, 4) };
+		Point[] b = { new Point(2, 2), new Point(6, 6) };
+		assertArrayEquals(new Point[] { new Point(0, 0), new Point(6, 6) }, HullMerge.merge(a, b));
+
+		Point[] c = { new Point(4, 0), new Point(0, 4) };
+		assertArrayEquals(expectedHull(new Point[] { a[0], a[1], c[0], c[1] }), HullMerge.merge(a, c));
+	}
+
+	@Test
+	public void testMergeDuplicateHulls() {
+		Point[] square = { new Point(0, 0), new Point(3, 0), new Point(3, 3), new Point(0, 3) };
+		assertArrayEquals(square, HullMerge.merge(square, square.clone(), square.clone()));
+	}
+
+	@Test
+	public void testMergeCollinear() {
+		Point[] a = { new Point(0, 0), new Point(2, 1) };
+		Point[] b = { new Point(4, 2), new Point(6, 3) };
+		Point[] c = { new Point(-2, -1), new Point(6, 3) };
+		assertArrayEquals(new Point[] { new Point(0, 0), new Point(6, 3) }, HullMerge.merge(a, b));
+		assertArrayEquals(new Point[] { new Point(-2, -1), new Point(6, 3) }, HullMerge.merge(a, b, c));
+	}
+
+	@Test
+	public void testMergeRandomShards() {
+		Random random = new Random(17);
+		for (int t = 0; t < 1000; t++) {
+			Point[] pts = randomPoints(random, 1 + random.nextInt(80), 1 + random.nextInt(6));
+			assertMergeOfShards(random, pts, false);
+			assertMergeOfShards(random, pts, true);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMergeNothing() {
+		HullMerge.merge(new Point[0][]);
+	}
+
+	@Test
+	public void testMergeAdjacentDegenerate() {
+		// a point below a point, a point below a segment, a segment below a segment
+		assertMergeAdjacent(new Point[] { new Point(3, 0), new Point(-3, 1) });
+		assertMergeAdjacent(new Point[] { new Point(0, 0), new Point(-1, 1), new Point(1, 1) });
+		assertMergeAdjacent(new Point[] { new Point(0, 0), new Point(1, 0), new Point(5, 1), new Point(-5, 1) });
+		assertMergeAdjacent(new Point[] { new Point(0, 0), new Point(4, 0), new Point(0, 1), new Point(4, 1) });
+	}
+
+	@Test
+	public void testMergeAdjacentCollinear() {
+		for (int n = 2; n <= 20; n++) {
+			Point[] horizontal = new Point[n];
+			Point[] vertical = new Point[n];
+			Point[] slanted = new Point[n];
+			for (int i = 0; i < n; i++) {
+				horizontal[i] = new Point(i, 7);
+				vertical[i] = new Point(7, i);
+				slanted[i] = new Point(-2 * i, 3 * i);
+			}
+			assertMergeAdjacent(horizontal);
+			assertMergeAdjacent(vertical);
+			assertMergeAdjacent(slanted);
+		}
+
+		// bridges along edges that hold collinear points of both hulls
+		Point[] square = new Point[36];
+		for (int i = 0; i < square.length; i++)
+			square[i] = new Point(i % 6, i / 6);
+		assertMergeAdjacent(square);
+	}
+
+	@Test
+	public void testMergeAdjacentRandom() {
+		Random random = new Random(18);
+		for (int t = 0; t < 300; t++)
+			assertMergeAdjacent(randomPoints(random, 1 + random.nextInt(60), 1 + random.nextInt(6)));
+	}
+}
@@ -0,0 +1,135 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import convexHull.ConvexHull;
+import convexHull.MonotoneChain;
+import convexHull.Point;
+
+/**
+ * Fixtures shared by the hull tests.  MonotoneChain serves as the reference for the other
+ * engines and structures.
+ */
+final class HullTestSupport {
+
+	private HullTestSupport() {
+	}
+
+	/**
+	 * @return n points with coordinates drawn uniformly from -range ... range
+	 */
+	static Point[] randomPoints(Random random, int n, int range) {
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++)
+			pts[i] = new Point(random.nextInt(2 * range + 1) - range, random.nextInt(2 * range + 1) - range);
+		return pts;
+	}
+
+	/**
+	 * @return n points within two units of a circle around the origin, most of them hull
+	 *         vertices
+	 */
+	static Point[] circlePoints(Random random, int n, int radius) {
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++) {
+			double angle = random.nextDouble() * 2 * Math.PI;
+			double r = radius - random.nextInt(3);
+			pts[i] = new Point((int) Math.round(r * Math.cos(angle)), (int) Math.round(r * Math.sin(angle)));
+		}
+		return pts;
+	}
+
+	/**
+	 * @return n points drawn uniformly from a disc around the origin
+	 */
+	static Point[] discPoints(Random random, int n, int radius) {
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++) {
+			double angle = random.nextDouble() * 2 * Math.PI;
+			double r = radius * Math.sqrt(random.nextDouble());
+			pts[i] = new Point((int) Math.round(r * Math.cos(angle)), (int) Math.round(r * Math.sin(angle)));
+		}
+		return pts;
+	}
+
+	/**
+	 * Hull vertices that MonotoneChain finds over pts; empty if there are none.
+	 */
+	static Point[] expectedHull(Point[] pts) {
+		if (pts.length == 0)
+			return new Point[0];
+		MonotoneChain chain = new MonotoneChain(pts);
+		chain.constructHull();
+		return chain.getHullVertices();
+	}
+
+	static Point[] expectedHull(List<Point> pts) {
+		return expectedHull(pts.toArray(new Point[pts.size()]));
+	}
+
+	/**
+	 * Constructs the hull of engine, which was created over pts, and compares it with
+	 * MonotoneChain.
+	 */
+	static void assertSameHull(String message, Point[] pts, ConvexHull engine) {
+		engine.constructHull();
+		assertArrayEquals(message, expectedHull(pts), engine.getHullVertices());
+	}
+
+	/**
+	 * Inputs whose hull has fewer than three vertices or collinear points on its edges: a single
+	 * point, two points, one point many times, horizontal, vertical and slanted lines of 2 to 30
+	 * points in scrambled order, and every point of a square grid.
+	 */
+	static List<Point[]> degenerateSets() {
+		List<Point[]> sets = new ArrayList<Point[]>();
+		sets.add(new Point[] { new Point(4, -1) });
+		sets.add(new Point[] { new Point(4, -1), new Point(-2, 3) });
+		sets.add(new Point[] { new Point(0, 5), new Point(3, 5) });
+		sets.add(new Point[] { new Point(2, 7), new Point(2, -7) });
+
+		Point[] duplicates = new Point[50];
+		for (int i = 0; i < duplicates.length; i++)
+			duplicates[i] = new Point(-7, 2);
+		sets.add(duplicates);
+
+		for (int n = 2; n <= 30; n++) {
+			Point[] horizontal = new Point[n];
+			Point[] vertical = new Point[n];
+			Point[] slanted = new Point[n];
+			for (int i = 0; i < n; i++) {
+				horizontal[i] = new Point(i * 7 % n - 5, 3);
+				vertical[i] = new Point(-1, n - i);
+				slanted[i] = new Point(2 * i - n, 3 * n - 3 * i);
+			}
+			sets.add(horizontal);
+			sets.add(vertical);
+			sets.add(slanted);
+		}
+
+		Point[] square = new Point[121];
+		for (int i = 0; i < square.length; i++)
+			square[i] = new Point(i % 11, i / 11);
+		sets.add(square);
+		return sets;
+	}
+
+	/**
+	 * @return a temporary file, deleted on exit, holding contents
+	 */
+	static File writeFile(String contents) throws IOException {
+		File file = File.createTempFile("points", ".txt");
+		file.deleteOnExit();
+		PrintWriter print = new PrintWriter(file);
+		print.print(contents);
+		print.close();
+		return file;
+	}
+}
@@ -0,0 +1,123 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.IncrementalHull;
+import convexHull.Point;
+
+public class IncrementalHullTest {
+
+	private static long cross(Point a, Point b, Point c) {
+		return ((long) b.getX() - a.getX()) * ((long) c.getY() - a.getY())
+				- ((long) c.getX() - a.getX()) * ((long) b.getY() - a.getY());
+	}
+
+	/**
+	 * @return true if p lies inside or on the boundary of the hull with the given vertices
+	 */
+	private static boolean inside(Point[] hull, Point p) {
+		if (hull.length == 1)
+			return hull[0].equals(p);
+		if (hull.length == 2) {
+			Point a = hull[0];
+			Point b = hull[1];
+			return cross(a, b, p) == 0
+					&& Math.min(a.getX(), b.getX()) <= p.getX() && p.getX() <= Math.max(a.getX(), b.getX())
+					&& Math.min(a.getY(), b.getY()) <= p.getY() && p.getY() <= Math.max(a.getY(), b.getY());
+		}
+		for (int i = 0; i < hull.length; i++) {
+			if (cross(hull[i], hull[(i + 1) % hull.length], p) < 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds pts one at a time and after every point compares the hull with MonotoneChain, and
+	 * contains() with inside() on every point of a grid that covers pts and a margin.
+	 */
+	private static void assertIncremental(Point[] pts, int range) {
+		IncrementalHull hull = new IncrementalHull();
+		List<Point> added = new ArrayList<Point>();
+		for (Point p : pts) {
+			hull.add(p);
+			added.add(p);
+			Point[] expected = expectedHull(added);
+			assertArrayEquals(expected, hull.getHullVertices());
+			assertEquals(expected.length, hull.size());
+			assertEquals(expected[0], hull.getLowestPoint());
+			for (int x = -range - 1; x <= range + 1; x++) {
+				for (int y = -range - 1; y <= range + 1; y++) {
+					Point q = new Point(x, y);
+					assertEquals(q.toString(), inside(expected, q), hull.contains(q));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		IncrementalHull hull = new IncrementalHull();
+		assertTrue(hull.isEmpty());
+		assertNull(hull.getLowestPoint());
+		assertEquals(0, hull.getHullVertices().length);
+	}
+
+	@Test
+	public void testSinglePoint() {
+		assertIncremental(new Point[] { new Point(1, -1) }, 2);
+	}
+
+	@Test
+	public void testTwoPoints() {
+		assertIncremental(new Point[] { new Point(2, 2), new Point(-2, -1) }, 3);
+		assertIncremental(new Point[] { new Point(-2, 1), new Point(2, 1) }, 3);
+		assertIncremental(new Point[] { new Point(0, 2), new Point(0, -2) }, 3);
+	}
+
+	@Test
+	public void testAllDuplicates() {
+		Point[] pts = new Point[20];
+		for (int i = 0; i < pts.length; i++)
+			pts[i] = new Point(-1, 3);
+		assertIncremental(pts, 4);
+	}
+
+	@Test
+	public void testCollinear() {
+		// points added out of order along a line, then a point off the line
+		Point[] pts = { new Point(0, 0), new Point(4, 2), new Point(2, 1), new Point(-2, -1), new Point(6, 3),
+				new Point(4, 2), new Point(1, 3) };
+		assertIncremental(pts, 6);
+
+		Point[] horizontal = { new Point(0, 1), new Point(3, 1), new Point(-3, 1), new Point(1, 1) };
+		assertIncremental(horizontal, 4);
+
+		Point[] vertical = { new Point(1, 0), new Point(1, -3), new Point(1, 3), new Point(1, 2) };
+		assertIncremental(vertical, 4);
+	}
+
+	@Test
+	public void testBoundary() {
+		// a square, then points on its edges and at its corners, which it already contains
+		Point[] pts = { new Point(-3, -3), new Point(3, -3), new Point(3, 3), new Point(-3, 3), new Point(0, -3),
+				new Point(3, 1), new Point(-1, 3), new Point(-3, 0), new Point(3, 3), new Point(0, 0) };
+		assertIncremental(pts, 4);
+	}
+
+	@Test
+	public void testRandomGrids() {
+		Random random = new Random(22);
+		for (int t = 0; t < 200; t++) {
+			int range = 1 + random.nextInt(5);
+			assertIncremental(randomPoints(random, 1 + random.nextInt(40), range), range);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.GrahamScan;
+import convexHull.IntStack;
+import convexHull.JarvisMarch;
+import convexHull.Point;
+
+public class IntStackTest {
+
+	@Test
+	public void testPushPopPeek() {
+		// well past the initial capacity, so that the stack grows several times
+		IntStack stack = new IntStack(1);
+		assertTrue(stack.isEmpty());
+		for (int i = 0; i < 1000; i++) {
+			stack.push(3 * i);
+			assertEquals(3 * i, stack.peek());
+			assertEquals(i + 1, stack.size());
+		}
+		for (int k = 0; k < 1000; k++)
+			assertEquals(3 * (999 - k), stack.peek(k));
+		assertEquals(stack.peek(), stack.peek(0));
+		for (int i = 999; i >= 0; i--)
+			assertEquals(3 * i, stack.pop());
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	public void testPeekOutOfRange() {
+		IntStack stack = new IntStack();
+		stack.push(7);
+		stack.push(8);
+		for (int k : new int[] { -1, 2, 3 }) {
+			try {
+				stack.peek(k);
+				fail("peek(" + k + ")");
+			} catch (NoSuchElementException e) {
+			}
+		}
+		assertEquals(7, stack.peek(1));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testPopEmpty() {
+		IntStack stack = new IntStack();
+		stack.push(1);
+		stack.pop();
+		stack.pop();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testPeekEmpty() {
+		new IntStack().peek();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testPeekKEmpty() {
+		new IntStack().peek(0);
+	}
+
+	@Test
+	public void testToArray() {
+		// bottom of the stack first, and the stack is empty afterwards
+		IntStack stack = new IntStack(2);
+		for (int i = 0; i < 5; i++)
+			stack.push(i * i);
+		assertArrayEquals(new int[] { 0, 1, 4, 9, 16 }, stack.toArray());
+		assertTrue(stack.isEmpty());
+		assertEquals(0, stack.size());
+		assertArrayEquals(new int[0], stack.toArray());
+
+		stack.push(5);
+		assertArrayEquals(new int[] { 5 }, stack.toArray());
+	}
+
+	@Test
+	public void testClearKeepsCapacity() {
+		IntStack stack = new IntStack(4);
+		for (int i = 0; i < 100; i++)
+			stack.push(i);
+		int capacity = stack.capacity();
+		assertTrue(capacity >= 100);
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		assertEquals(capacity, stack.capacity());
+		for (int i = 0; i < 100; i++)
+			stack.push(-i);
+		assertEquals(capacity, stack.capacity());
+		assertEquals(-99, stack.peek());
+	}
+
+	@Test
+	public void testEnsureCapacity() {
+		IntStack stack = new IntStack(0);
+		assertTrue(stack.capacity() >= 1);
+		stack.push(42);
+		stack.ensureCapacity(500);
+		assertEquals(500, stack.capacity());
+		assertEquals(42, stack.peek());
+		for (int i = 1; i < 500; i++)
+			stack.push(i);
+		assertEquals(500, stack.capacity());
+
+		// never shrinks
+		stack.ensureCapacity(10);
+		assertEquals(500, stack.capacity());
+		assertEquals(500, stack.size());
+	}
+
+	private static Point[] grahamHull(Point[] pts) {
+		GrahamScan graham = new GrahamScan(pts);
+		graham.constructHull();
+		return graham.getHullVertices();
+	}
+
+	private static Point[] jarvisHull(Point[] pts) {
+		JarvisMarch jarvis = new JarvisMarch(pts);
+		jarvis.constructHull();
+		return jarvis.getHullVertices();
+	}
+
+	@Test
+	public void testGrahamScanSharedStack() {
+		// one stack, too small and holding stale elements, for two hulls built one after
+		// another; each hull is copied out of the stack, so the first survives the second, and
+		// both are the hulls the engine finds with a stack of its own
+		Random random = new Random(12);
+		Point[] first = circlePoints(random, 2000, 100000);
+		Point[] second = randomPoints(random, 500, 50);
+		IntStack stack = new IntStack(1);
+		stack.push(-1);
+
+		GrahamScan graham1 = new GrahamScan(first);
+		graham1.setVertexStack(stack);
+		graham1.constructHull();
+		GrahamScan graham2 = new GrahamScan(second);
+		graham2.setVertexStack(stack);
+		stack.push(12345);
+		graham2.constructHull();
+		assertArrayEquals(grahamHull(first), graham1.getHullVertices());
+		assertArrayEquals(grahamHull(second), graham2.getHullVertices());
+
+		// and again, with the stack grown by the first hull
+		graham1.constructHull();
+		assertArrayEquals(grahamHull(first), graham1.getHullVertices());
+		assertTrue(stack.capacity() >= first.length - graham1.getDuplicateCount());
+	}
+
+	@Test
+	public void testJarvisMarchSharedStacks() {
+		Random random = new Random(13);
+		Point[] first = discPoints(random, 3000, 100000);
+		Point[] second = randomPoints(random, 300, 20);
+		IntStack right = new IntStack();
+		IntStack left = new IntStack();
+		right.push(-1);
+		left.push(-2);
+
+		JarvisMarch jarvis1 = new JarvisMarch(first);
+		jarvis1.setChainStacks(right, left);
+		jarvis1.constructHull();
+		JarvisMarch jarvis2 = new JarvisMarch(second);
+		jarvis2.setChainStacks(right, left);
+		left.push(99);
+		jarvis2.constructHull();
+		assertArrayEquals(jarvisHull(first), jarvis1.getHullVertices());
+		assertArrayEquals(jarvisHull(second), jarvis2.getHullVertices());
+
+		jarvis1.constructHull();
+		assertArrayEquals(jarvisHull(first), jarvis1.getHullVertices());
+		assertArrayEquals(expectedHull(first), jarvis1.getHullVertices());
+	}
+}
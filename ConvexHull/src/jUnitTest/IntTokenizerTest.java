@@ -0,0 +1,92 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Scanner;
+
+import org.junit.Test;
+
+import convexHull.IntTokenizer;
+
+public class IntTokenizerTest {
+
+	/**
+	 * Grouping separator of the default locale, which both Scanner and IntTokenizer accept in
+	 * integers, or ',' if it is not ASCII.
+	 */
+	private static final char SEP = groupingSeparator();
+
+	private static char groupingSeparator() {
+		char c = DecimalFormatSymbols.getInstance().getGroupingSeparator();
+		return c > ' ' && c < 0x7F ? c : ',';
+	}
+
+	private static IntTokenizer tokenizer(String input) {
+		byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+		return new IntTokenizer(ByteBuffer.wrap(bytes), 0, bytes.length);
+	}
+
+	/**
+	 * Reads input with hasNextInt() / nextInt() until the first token that is not an integer.
+	 *
+	 * @return the integers read, and "stop" if a token was left over
+	 */
+	private static String readWithScanner(String input) {
+		StringBuilder sb = new StringBuilder();
+		Scanner scanner = new Scanner(input);
+		while (scanner.hasNextInt())
+			sb.append(scanner.nextInt()).append(' ');
+		if (scanner.hasNext())
+			sb.append("stop");
+		scanner.close();
+		return sb.toString();
+	}
+
+	/**
+	 * Same as readWithScanner() with an IntTokenizer.
+	 */
+	private static String readWithTokenizer(String input) {
+		StringBuilder sb = new StringBuilder();
+		IntTokenizer tokenizer = tokenizer(input);
+		while (tokenizer.hasNextInt())
+			sb.append(tokenizer.nextInt()).append(' ');
+		if (tokenizer.hasNext())
+			sb.append("stop");
+		return sb.toString();
+	}
+
+	@Test
+	public void testSameTokensAsScanner() {
+		String[] tokens = { "0", "-0", "+0", "7", "+7", "-7", "007", "-007", "123456",
+				"1,000", "-1,000", "+1,000", "12,345", "123,456,789", "0,123", "-0,123", "00,123",
+				"000,123", "1,23", "1,2345", "1234,567", ",123", "123,", "1,,000", "1,000,",
+				"2147483647", "2147483648", "-2147483648", "-2147483649", "+2147483647",
+				"2,147,483,647", "2,147,483,648", "-2,147,483,648", "-2,147,483,649",
+				"99999999999", "0000000000002147483647", "-", "+", "--1", "+-1", "1-", "1+1",
+				"0x10", "1e3", "1.0", "abc" };
+		for (String token : tokens) {
+			String t = token.replace(',', SEP);
+			String input = "5 " + t + " 6";
+			assertEquals(t, readWithScanner(input), readWithTokenizer(input));
+		}
+	}
+
+	@Test
+	public void testWhitespace() {
+		String input = "  1\t-2\n\r3 \f 4\u000B5  \n";
+		assertEquals(readWithScanner(input), readWithTokenizer(input));
+		assertEquals("1 -2 3 4 5 ", readWithTokenizer(input));
+	}
+
+	@Test
+	public void testStopsAtFirstNonInteger() {
+		IntTokenizer tokenizer = tokenizer("1 2 0" + SEP + "123 4");
+		assertEquals(1, tokenizer.nextInt());
+		assertEquals(2, tokenizer.nextInt());
+		assertFalse(tokenizer.hasNextInt());
+		assertTrue(tokenizer.hasNext());
+	}
+}
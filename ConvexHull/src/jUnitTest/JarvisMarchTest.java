@@ -0,0 +1,151 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.JarvisMarch;
+import convexHull.Point;
+
+public class JarvisMarchTest {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private static final int[] CHUNK_SIZES = { 1, 3, 17, 500 };
+
+	private static Point[] sequentialHull(Point[] pts) {
+		JarvisMarch jarvis = new JarvisMarch(pts);
+		jarvis.constructHull();
+		return jarvis.getHullVertices();
+	}
+
+	/**
+	 * Checks that the scan on a pool finds the same hull as the sequential scan, and both the
+	 * hull that MonotoneChain finds, for every chunk size.
+	 */
+	private static void assertPooledHull(String message, Point[] pts) {
+		Point[] expected = sequentialHull(pts);
+		assertArrayEquals(message, expectedHull(pts), expected);
+		for (int chunkSize : CHUNK_SIZES) {
+			JarvisMarch pooled = new JarvisMarch(pts);
+			pooled.setPool(POOL);
+			pooled.setChunkSize(chunkSize);
+			pooled.constructHull();
+			assertArrayEquals(message + ", chunk size " + chunkSize, expected, pooled.getHullVertices());
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testPooledRandom() {
+		Random random = new Random(14);
+		for (int t = 0; t < 100; t++)
+			assertPooledHull("set " + t, randomPoints(random, 1 + random.nextInt(2000), 1 + random.nextInt(100000)));
+		assertPooledHull("circle", circlePoints(random, 3000, 100000));
+	}
+
+	@Test(timeout = 60000)
+	public void testPooledGrids() {
+		Random random = new Random(15);
+		for (int t = 0; t < 200; t++)
+			assertPooledHull("set " + t, randomPoints(random, 1 + random.nextInt(300), 1 + random.nextInt(6)));
+		int i = 0;
+		for (Point[] pts : degenerateSets())
+			assertPooledHull("degenerate set " + i++, pts);
+	}
+
+	@Test(timeout = 60000)
+	public void testPooledCollinearOnEdges() {
+		// many points on every edge: of all the points on the ray to the next vertex the furthest
+		// wins, and since the points are scanned in bottom-up order, small chunks split every
+		// edge and the chunks that hold the nearer points must lose the reduction; if one of
+		// them won, the march would step to a point that is not a vertex and might never
+		// return to the lowest point
+		Point[] triangle = new Point[3 * 400];
+		for (int i = 0; i < 400; i++) {
+			triangle[3 * i] = new Point(i, 0);
+			triangle[3 * i + 1] = new Point(400 - i, i);
+			triangle[3 * i + 2] = new Point(0, 400 - i);
+		}
+		assertPooledHull("triangle", triangle);
+		assertArrayEquals(new Point[] { new Point(0, 0), new Point(400, 0), new Point(0, 400) }, sequentialHull(triangle));
+
+		Point[] square = new Point[40 * 40];
+		for (int i = 0; i < square.length; i++)
+			square[i] = new Point(i % 40, i / 40);
+		assertPooledHull("square", square);
+	}
+
+	@Test(timeout = 60000)
+	public void testPoolLeavesHullUnchanged() {
+		// the same engine constructed again after setPool(), and a new one on a pool
+		Random random = new Random(16);
+		for (int t = 0; t < 50; t++) {
+			Point[] pts = t % 2 == 0 ? randomPoints(random, 3 + random.nextInt(3000), 1 + random.nextInt(50))
+					: discPoints(random, 3 + random.nextInt(3000), 100000);
+			JarvisMarch jarvis = new JarvisMarch(pts);
+			jarvis.constructHull();
+			Point[] sequential = jarvis.getHullVertices();
+			int[] sizes = jarvis.getWorkingSetSizes();
+
+			jarvis.setPool(POOL);
+			jarvis.setChunkSize(64);
+			jarvis.constructHull();
+			assertArrayEquals("set " + t, sequential, jarvis.getHullVertices());
+			assertArrayEquals("set " + t, sizes, jarvis.getWorkingSetSizes());
+
+			JarvisMarch pooled = new JarvisMarch(pts);
+			pooled.setPool(POOL);
+			pooled.setChunkSize(1 + random.nextInt(100));
+			pooled.constructHull();
+			assertArrayEquals("set " + t, sequential, pooled.getHullVertices());
+
+			jarvis.setPool(null);
+			jarvis.constructHull();
+			assertArrayEquals("set " + t, sequential, jarvis.getHullVertices());
+		}
+	}
+
+	@Test
+	public void testWorkingSetShrinks() {
+		Point[] pts = discPoints(new Random(17), 20000, 1000000);
+		JarvisMarch jarvis = new JarvisMarch(pts);
+		assertNull(jarvis.getWorkingSetSizes());
+		jarvis.constructHull();
+		int n = pts.length - jarvis.getDuplicateCount();
+		int[] sizes = jarvis.getWorkingSetSizes();
+
+		// one step per vertex, each of which starts with all points
+		assertEquals(jarvis.getHullVertices().length, sizes.length);
+		assertEquals(n, sizes[0]);
+		assertTrue(sizes[1] < n);
+		long total = 0;
+		int min = n;
+		for (int size : sizes) {
+			assertTrue(size <= n);
+			total += size;
+			min = Math.min(min, size);
+		}
+		assertTrue("smallest working set " + min, min < n / 100);
+		assertTrue("points scanned " + total, total < (long) sizes.length * n / 2);
+	}
+
+	@Test
+	public void testWorkingSetSizesOfSegment() {
+		Point[] pts = new Point[10];
+		for (int i = 0; i < pts.length; i++)
+			pts[i] = new Point(i, 2 * i);
+		JarvisMarch jarvis = new JarvisMarch(pts);
+		jarvis.constructHull();
+		assertArrayEquals(new Point[] { new Point(0, 0), new Point(9, 18) }, jarvis.getHullVertices());
+		assertArrayEquals(new int[] { 10, 10 }, jarvis.getWorkingSetSizes());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChunkSizeZero() {
+		new JarvisMarch(new Point[] { new Point(0, 0) }).setChunkSize(0);
+	}
+}
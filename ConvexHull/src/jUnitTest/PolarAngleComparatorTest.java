@@ -0,0 +1,164 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.ChanHull;
+import convexHull.ConvexHull;
+import convexHull.DivideAndConquerHull;
+import convexHull.GrahamScan;
+import convexHull.JarvisMarch;
+import convexHull.MonotoneChain;
+import convexHull.Point;
+import convexHull.PolarAngleComparator;
+import convexHull.QuickHull;
+
+public class PolarAngleComparatorTest {
+
+	private static final int MAX = Integer.MAX_VALUE;
+
+	private static final int BOUND = ConvexHull.MAX_COORDINATE;
+
+	/**
+	 * @return sign of the cross product of b - a and c - a, computed exactly
+	 */
+	private static int exactTurn(Point a, Point b, Point c) {
+		BigInteger bx = BigInteger.valueOf((long) b.getX() - a.getX());
+		BigInteger by = BigInteger.valueOf((long) b.getY() - a.getY());
+		BigInteger cx = BigInteger.valueOf((long) c.getX() - a.getX());
+		BigInteger cy = BigInteger.valueOf((long) c.getY() - a.getY());
+		return bx.multiply(cy).subtract(cx.multiply(by)).signum();
+	}
+
+	/**
+	 * @return squared distance from a to b, computed exactly
+	 */
+	private static BigInteger exactDistance(Point a, Point b) {
+		BigInteger dx = BigInteger.valueOf((long) b.getX() - a.getX());
+		BigInteger dy = BigInteger.valueOf((long) b.getY() - a.getY());
+		return dx.multiply(dx).add(dy.multiply(dy));
+	}
+
+	/**
+	 * A coordinate at one of the bounds, next to one, or anywhere in between.
+	 */
+	private static int boundCoordinate(Random random) {
+		switch (random.nextInt(4)) {
+		case 0:
+			return BOUND - random.nextInt(2);
+		case 1:
+			return -BOUND + random.nextInt(2);
+		default:
+			return (int) (random.nextDouble() * 2 * BOUND) - BOUND;
+		}
+	}
+
+	private static Point[] boundPoints(Random random, int n) {
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++)
+			pts[i] = new Point(boundCoordinate(random), boundCoordinate(random));
+		return pts;
+	}
+
+	/**
+	 * Drops the vertices at which hull does not turn strictly, as tested exactly.
+	 */
+	private static Point[] strictVertices(Point[] hull) {
+		if (hull.length < 3)
+			return hull;
+		List<Point> kept = new ArrayList<Point>();
+		for (int i = 0; i < hull.length; i++) {
+			Point prev = hull[(i + hull.length - 1) % hull.length];
+			Point next = hull[(i + 1) % hull.length];
+			if (exactTurn(prev, hull[i], next) != 0)
+				kept.add(hull[i]);
+		}
+		return kept.toArray(new Point[kept.size()]);
+	}
+
+	@Test
+	public void testCompareWideCoordinates() {
+		// x - xref overflows int for p1 and p2
+		PolarAngleComparator comp = new PolarAngleComparator(new Point(-1000000000, -10), true);
+		Point p1 = new Point(2000000000, -10);
+		Point p2 = new Point(2000000000, 1000);
+		assertEquals(-1, comp.compare(p1, p2));
+		assertEquals(1, comp.compare(p2, p1));
+
+		// collinear points, ordered by distance from the reference point
+		Point near = new Point(0, -10);
+		assertEquals(-1, comp.compare(near, p1));
+		assertEquals(1, comp.compare(p1, near));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHullWideCoordinates() {
+		// differences in x from (-1000000000, 0) overflow int, and MAX - 1 is beyond MAX_COORDINATE
+		Point[] pts = { new Point(1000000000, -2), new Point(1000000000, 3), new Point(MAX - 1, -3),
+				new Point(-1000000000, 0) };
+		new MonotoneChain(pts);
+	}
+
+	@Test
+	public void testCompareAtBound() {
+		Random random = new Random(1);
+		for (int t = 0; t < 100000; t++) {
+			Point ref = new Point(boundCoordinate(random), boundCoordinate(random));
+			Point p1 = new Point(boundCoordinate(random), boundCoordinate(random));
+			Point p2 = random.nextInt(8) == 0 ? new Point(ref.getX() - (p1.getX() - ref.getX()) / 2, ref.getY() - (p1.getY() - ref.getY()) / 2)
+					: new Point(boundCoordinate(random), boundCoordinate(random));
+			if (p1.equals(ref) || p2.equals(ref) || p1.equals(p2))
+				continue;
+			int turn = exactTurn(ref, p1, p2);
+			int expected = turn > 0 ? -1 : turn < 0 ? 1 : exactDistance(ref, p1).compareTo(exactDistance(ref, p2));
+			PolarAngleComparator comp = new PolarAngleComparator(ref, true);
+			assertEquals(expected, comp.compare(p1, p2));
+			assertEquals(-expected, comp.compare(p2, p1));
+		}
+
+		// opposite corners: both products and the squared distances are near 2^62
+		PolarAngleComparator comp = new PolarAngleComparator(new Point(-BOUND, -BOUND), true);
+		assertEquals(-1, comp.compare(new Point(BOUND, BOUND - 1), new Point(BOUND - 1, BOUND)));
+		assertEquals(-1, comp.compare(new Point(0, 0), new Point(BOUND, BOUND)));
+		assertEquals(1, comp.compare(new Point(BOUND, BOUND), new Point(0, 0)));
+	}
+
+	@Test
+	public void testHullsAtBound() {
+		Random random = new Random(2);
+		for (int t = 0; t < 200; t++) {
+			Point[] pts = boundPoints(random, 3 + random.nextInt(100));
+
+			MonotoneChain chain = new MonotoneChain(pts);
+			chain.constructHull();
+			Point[] expected = chain.getHullVertices();
+
+			// the reference hull turns strictly left everywhere and has every point inside
+			for (int i = 0; expected.length > 2 && i < expected.length; i++) {
+				Point a = expected[i];
+				Point b = expected[(i + 1) % expected.length];
+				assertEquals(1, exactTurn(a, b, expected[(i + 2) % expected.length]));
+				for (Point p : pts)
+					assertTrue(exactTurn(a, b, p) >= 0);
+			}
+
+			ConvexHull[] engines = { new JarvisMarch(pts), new QuickHull(pts), new ChanHull(pts),
+					new DivideAndConquerHull(pts) };
+			for (ConvexHull engine : engines) {
+				engine.constructHull();
+				assertArrayEquals(expected, engine.getHullVertices());
+			}
+
+			// GrahamScan also reports collinear points on the edges
+			GrahamScan graham = new GrahamScan(pts);
+			graham.constructHull();
+			assertArrayEquals(expected, strictVertices(graham.getHullVertices()));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.ConvexHull;
+import convexHull.GrahamScan;
+import convexHull.HullOptions;
+import convexHull.Point;
+import convexHull.PointStore;
+import convexHull.PolarAngleComparator;
+import convexHull.PolarAngleKeySort;
+import convexHull.QuickSortPoints;
+import convexHull.RadixSortPoints;
+
+public class PolarAngleKeySortTest {
+
+	private static final int BOUND = ConvexHull.MAX_COORDINATE;
+
+	/**
+	 * Deduplicates pts, in a shuffled order, and checks that PolarAngleKeySort puts the points in
+	 * the order of PolarAngleComparator(lowest point, true), element by element.
+	 */
+	private static void assertSameOrder(List<Point> pts, Random random) {
+		PointStore unique = new PointStore(pts.toArray(new Point[pts.size()]));
+		RadixSortPoints.sortUnique(unique);
+		int xref = unique.getX(0);
+		int yref = unique.getY(0);
+
+		List<Point> shuffled = new ArrayList<Point>();
+		for (Point p : unique.toPoints())
+			shuffled.add(p);
+		Collections.shuffle(shuffled, random);
+
+		PointStore byKey = new PointStore(shuffled.toArray(new Point[shuffled.size()]));
+		PolarAngleKeySort.sort(byKey, xref, yref);
+
+		PointStore byComparator = new PointStore(shuffled.toArray(new Point[shuffled.size()]));
+		new QuickSortPoints(byComparator).quickSort(new PolarAngleComparator(xref, yref, true));
+
+		assertEquals(byComparator.size(), byKey.size());
+		for (int i = 0; i < byKey.size(); i++)
+			assertEquals("index " + i, byComparator.toPoint(i), byKey.toPoint(i));
+	}
+
+	@Test
+	public void testCollinearRuns() {
+		// every point of a grid above the lowest point: many points on every ray, including the
+		// rays along the bottom row to either side
+		List<Point> pts = new ArrayList<Point>();
+		for (int x = -12; x <= 12; x++) {
+			for (int y = 0; y <= 12; y++)
+				pts.add(new Point(x, y));
+		}
+		assertSameOrder(pts, new Random(1));
+
+		// a few long rays from the lowest point
+		List<Point> rays = new ArrayList<Point>();
+		rays.add(new Point(0, 0));
+		for (int k = 1; k <= 200; k++) {
+			rays.add(new Point(k, 0));
+			rays.add(new Point(-k, 0));
+			rays.add(new Point(k, k));
+			rays.add(new Point(0, k));
+			rays.add(new Point(-3 * k, 2 * k));
+		}
+		assertSameOrder(rays, new Random(2));
+	}
+
+	@Test
+	public void testCollidingKeysAtBound() {
+		// seen from (-BOUND, -BOUND), points one unit apart near the opposite corner differ in
+		// angle by less than one quantization step of the keys
+		List<Point> pts = new ArrayList<Point>();
+		pts.add(new Point(-BOUND, -BOUND));
+		for (int i = 0; i < 30; i++) {
+			for (int j = 0; j < 30; j++)
+				pts.add(new Point(BOUND - i, BOUND - j));
+		}
+		// and collinear with them, halfway
+		for (int i = 0; i < 30; i++)
+			pts.add(new Point(-i, -i));
+		assertSameOrder(pts, new Random(3));
+
+		// points far along the bottom row and next to it
+		List<Point> flat = new ArrayList<Point>();
+		flat.add(new Point(-BOUND, -BOUND));
+		for (int i = 0; i < 50; i++) {
+			flat.add(new Point(BOUND - i, -BOUND));
+			flat.add(new Point(BOUND - i, -BOUND + 1));
+			flat.add(new Point(-BOUND + i, BOUND));
+			flat.add(new Point(-BOUND, BOUND - i));
+		}
+		assertSameOrder(flat, new Random(4));
+	}
+
+	@Test
+	public void testRandom() {
+		Random random = new Random(10);
+		for (int t = 0; t < 300; t++) {
+			int range = t % 2 == 0 ? 1 + random.nextInt(20) : BOUND;
+			List<Point> pts = new ArrayList<Point>();
+			int n = 1 + random.nextInt(500);
+			for (int i = 0; i < n; i++) {
+				int x = (int) (random.nextDouble() * (2.0 * range + 1)) - range;
+				int y = (int) (random.nextDouble() * (2.0 * range + 1)) - range;
+				pts.add(new Point(x, y));
+			}
+			assertSameOrder(pts, random);
+		}
+	}
+
+	@Test
+	public void testGrahamScanOptions() {
+		Random random = new Random(11);
+		HullOptions keys = new HullOptions();
+		HullOptions comparator = new HullOptions();
+		comparator.setAngleKeySort(false);
+		for (int t = 0; t < 200; t++) {
+			Point[] pts = new Point[1 + random.nextInt(200)];
+			for (int i = 0; i < pts.length; i++)
+				pts[i] = new Point(random.nextInt(11) - 5, random.nextInt(11) - 5);
+			GrahamScan byKey = new GrahamScan(pts, keys);
+			byKey.constructHull();
+			GrahamScan byComparator = new GrahamScan(pts, comparator);
+			byComparator.constructHull();
+			assertArrayEquals(byComparator.getHullVertices(), byKey.getHullVertices());
+		}
+	}
+}
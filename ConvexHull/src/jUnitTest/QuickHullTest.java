@@ -0,0 +1,74 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.Point;
+import convexHull.QuickHull;
+
+public class QuickHullTest {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * QuickHull over pts on a pool of four threads, splitting subsets of at least cutoff points
+	 * across tasks.
+	 */
+	private static QuickHull parallel(Point[] pts, int cutoff) {
+		QuickHull hull = new QuickHull(pts);
+		hull.setSequentialCutoff(cutoff);
+		hull.setPool(POOL);
+		return hull;
+	}
+
+	@Test
+	public void testDegenerate() {
+		int i = 0;
+		for (Point[] pts : degenerateSets()) {
+			assertSameHull("set " + i, pts, new QuickHull(pts));
+			assertSameHull("set " + i + ", cutoff 1", pts, parallel(pts, 1));
+			i++;
+		}
+	}
+
+	@Test
+	public void testCutoffs() {
+		// every subset split across tasks, and none: both give the hull that MonotoneChain finds
+		Random random = new Random(6);
+		Point[] pts = randomPoints(random, 5000, 300);
+		QuickHull split = parallel(pts, 1);
+		assertSameHull("cutoff 1", pts, split);
+		QuickHull whole = parallel(pts, Integer.MAX_VALUE);
+		assertSameHull("no split", pts, whole);
+		assertArrayEquals(whole.getHullVertices(), split.getHullVertices());
+
+		Point[] circle = circlePoints(random, 3000, 50000);
+		assertSameHull("circle, cutoff 1", circle, parallel(circle, 1));
+		assertSameHull("circle, no split", circle, parallel(circle, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testRandomGrids() {
+		Random random = new Random(4);
+		for (int t = 0; t < 500; t++) {
+			Point[] pts = randomPoints(random, 1 + random.nextInt(300), 1 + random.nextInt(10));
+			assertSameHull("set " + t, pts, new QuickHull(pts));
+			assertSameHull("set " + t + ", cutoff 2", pts, parallel(pts, 2));
+		}
+	}
+
+	@Test
+	public void testLargeParallel() {
+		// enough points that the candidates of many tasks are split concurrently
+		Random random = new Random(5);
+		for (int t = 0; t < 10; t++) {
+			Point[] pts = randomPoints(random, 20000 + random.nextInt(20000), 1000 + random.nextInt(100000));
+			assertSameHull("set " + t, pts, parallel(pts, 2));
+		}
+	}
+}
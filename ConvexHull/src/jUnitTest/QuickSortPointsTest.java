@@ -0,0 +1,264 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import convexHull.GrahamScan;
+import convexHull.HullOptions;
+import convexHull.Point;
+import convexHull.PointStore;
+import convexHull.PolarAngleComparator;
+import convexHull.QuickSortPoints;
+import convexHull.YComparator;
+
+public class QuickSortPointsTest {
+
+	// sizes around the insertion sort cutoff (16) and the ninther threshold (128), and large
+	// enough for many levels of partitioning
+	private static final int[] SIZES = { 0, 1, 2, 15, 16, 17, 127, 128, 129, 1000, 50000 };
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private static final String[] PATTERN_NAMES = { "sorted", "reversed", "all equal", "organ pipe", "sawtooth",
+			"few values", "random" };
+
+	/**
+	 * Not a comparator of the package, so that the sort goes through the wrapper.
+	 */
+	private static final Comparator<Point> BY_X = new Comparator<Point>() {
+		public int compare(Point p1, Point p2) {
+			int c = Integer.compare(p1.getX(), p2.getX());
+			return c != 0 ? c : Integer.compare(p1.getY(), p2.getY());
+		}
+	};
+
+	/**
+	 * Sorts pts in a PointStore and checks the order against Arrays.sort().  Points that compare
+	 * equal have the same coordinates under these comparators, so the orders are identical.
+	 */
+	private static void assertSorted(String message, Point[] pts, Comparator<Point> comp) {
+		Point[] expected = pts.clone();
+		Arrays.sort(expected, comp);
+		PointStore store = new PointStore(pts);
+		new QuickSortPoints(store).quickSort(comp);
+		assertArrayEquals(message, expected, store.toPoints());
+	}
+
+	/**
+	 * Same as assertSorted() with the sort on POOL, both by quickSort(comp, pool) and by
+	 * quickSort(comp) after setParallelism() with a threshold below n.
+	 */
+	private static void assertSortedInParallel(String message, Point[] pts, Comparator<Point> comp) {
+		Point[] expected = pts.clone();
+		Arrays.sort(expected, comp);
+
+		PointStore store = new PointStore(pts);
+		new QuickSortPoints(store).quickSort(comp, POOL);
+		assertArrayEquals(message + ", on a pool", expected, store.toPoints());
+
+		store = new PointStore(pts);
+		QuickSortPoints sorter = new QuickSortPoints(store);
+		sorter.setParallelism(POOL, pts.length / 2);
+		sorter.quickSort(comp);
+		assertArrayEquals(message + ", with parallelism set", expected, store.toPoints());
+	}
+
+	/**
+	 * Inputs of n points that defeat a naive pivot choice, keyed by y so that YComparator sees
+	 * them in the order of PATTERN_NAMES.
+	 */
+	private static List<Point[]> patterns(int n, Random random) {
+		Point[] sorted = new Point[n];
+		Point[] reversed = new Point[n];
+		Point[] equal = new Point[n];
+		Point[] organPipe = new Point[n];
+		Point[] sawtooth = new Point[n];
+		Point[] fewValues = new Point[n];
+		Point[] wide = new Point[n];
+		for (int i = 0; i < n; i++) {
+			sorted[i] = new Point(i % 7, i);
+			reversed[i] = new Point(i % 5, n - i);
+			equal[i] = new Point(3, 3);
+			organPipe[i] = new Point(0, Math.min(i, n - 1 - i));
+			sawtooth[i] = new Point(i % 3, i % 64);
+			fewValues[i] = new Point(random.nextInt(3), random.nextInt(4));
+			wide[i] = new Point(random.nextInt(2000001) - 1000000, random.nextInt(2000001) - 1000000);
+		}
+		List<Point[]> inputs = new ArrayList<Point[]>();
+		inputs.add(sorted);
+		inputs.add(reversed);
+		inputs.add(equal);
+		inputs.add(organPipe);
+		inputs.add(sawtooth);
+		inputs.add(fewValues);
+		inputs.add(wide);
+		return inputs;
+	}
+
+	@Test
+	public void testPatterns() {
+		Random random = new Random(6);
+		for (int n : SIZES) {
+			List<Point[]> inputs = patterns(n, random);
+			for (int k = 0; k < inputs.size(); k++) {
+				Point[] pts = inputs.get(k);
+				String message = PATTERN_NAMES[k] + ", n = " + n;
+				assertSorted(message + ", y order", pts, new YComparator());
+				assertSorted(message + ", x order", pts, BY_X);
+				if (n > 0) {
+					Point lowest = pts[0];
+					for (Point p : pts)
+						lowest = p.compareTo(lowest) < 0 ? p : lowest;
+					assertSorted(message + ", polar angle", pts, new PolarAngleComparator(lowest, true));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParallel() {
+		// sizes above the parallel cutoff (8192), so that partitions are split into tasks
+		Random random = new Random(7);
+		for (int n : new int[] { 9000, 50000, 200000 }) {
+			List<Point[]> inputs = patterns(n, random);
+			for (int k = 0; k < inputs.size(); k++) {
+				Point[] pts = inputs.get(k);
+				String message = PATTERN_NAMES[k] + ", n = " + n;
+				assertSortedInParallel(message + ", y order", pts, new YComparator());
+				assertSortedInParallel(message + ", x order", pts, BY_X);
+			}
+		}
+		// and below it, where the pool runs a single task
+		for (int n : new int[] { 0, 1, 100 })
+			assertSortedInParallel("n = " + n, patterns(n, random).get(6), new YComparator());
+	}
+
+	@Test
+	public void testParallelismOff() {
+		// a threshold above n, and then no pool, leave the sort sequential; on a pool of one
+		// thread the adversary's comparator may be called from the pool's worker
+		int n = 20000;
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++)
+			pts[i] = new Point(i, 0);
+		PointStore store = new PointStore(pts);
+		QuickSortPoints sorter = new QuickSortPoints(store);
+		ForkJoinPool single = new ForkJoinPool(1);
+		try {
+			sorter.setParallelism(single, n + 1);
+			sorter.quickSort(BY_X);
+			assertArrayEquals(pts, store.toPoints());
+			sorter.setParallelism(null, 0);
+			sorter.quickSort(new YComparator());
+			assertArrayEquals(pts, store.toPoints());
+
+			// the parallel sort falls back to the sequential introsort after 2 log n levels
+			Adversary adversary = new Adversary(n);
+			new QuickSortPoints(store).quickSort(adversary, single);
+			for (int i = 1; i < n; i++)
+				assertTrue("index " + i, adversary.value[store.getX(i - 1)] <= adversary.value[store.getX(i)]);
+			long bound = 16L * n * (32 - Integer.numberOfLeadingZeros(n));
+			assertTrue(adversary.comparisons + " comparisons", adversary.comparisons < bound);
+		} finally {
+			single.shutdown();
+		}
+	}
+
+	@Test
+	public void testHullOptionsSortParallelism() {
+		// the comparator sorts of ConvexHull and GrahamScan, rather than the radix and key
+		// sorts, on a pool
+		Random random = new Random(8);
+		Point[] pts = new Point[100000];
+		for (int i = 0; i < pts.length; i++)
+			pts[i] = new Point(random.nextInt(20001) - 10000, random.nextInt(20001) - 10000);
+		HullOptions sequential = new HullOptions();
+		sequential.setRadixSort(false);
+		sequential.setAngleKeySort(false);
+		HullOptions parallel = new HullOptions(sequential);
+		parallel.setSortParallelism(POOL, 10000);
+
+		GrahamScan expected = new GrahamScan(pts, sequential);
+		expected.constructHull();
+		GrahamScan graham = new GrahamScan(pts, parallel);
+		graham.constructHull();
+		assertArrayEquals(expected.getHullVertices(), graham.getHullVertices());
+		assertEquals(expected.getDuplicateCount(), graham.getDuplicateCount());
+
+		GrahamScan byDefault = new GrahamScan(pts);
+		byDefault.constructHull();
+		assertArrayEquals(byDefault.getHullVertices(), graham.getHullVertices());
+	}
+
+	@Test
+	public void testPointArrayLeftUnchanged() {
+		Point[] pts = { new Point(3, 1), new Point(-1, 0), new Point(2, 2) };
+		Point[] copy = pts.clone();
+		new QuickSortPoints(pts).quickSort(new YComparator());
+		assertArrayEquals(copy, pts);
+	}
+
+	/**
+	 * McIlroy's adversary: a comparator that fixes the order of the points only as the sort
+	 * compares them, so that every pivot turns out to be among the smallest points of its range.
+	 * Each point carries its identity in its x-coordinate.
+	 */
+	private static class Adversary implements Comparator<Point> {
+		private final int[] value;
+		private final int gas;          // value of the points that are not yet fixed, above all others
+		private int fixed = 0;
+		private int candidate = -1;
+		private long comparisons = 0;
+
+		Adversary(int n) {
+			value = new int[n];
+			gas = n;
+			Arrays.fill(value, gas);
+		}
+
+		public int compare(Point p1, Point p2) {
+			comparisons++;
+			int a = p1.getX();
+			int b = p2.getX();
+			if (a == b)
+				return 0;
+			if (value[a] == gas && value[b] == gas) {
+				if (a == candidate)
+					value[a] = fixed++;
+				else
+					value[b] = fixed++;
+			}
+			if (value[a] == gas)
+				candidate = a;
+			else if (value[b] == gas)
+				candidate = b;
+			return Integer.compare(value[a], value[b]);
+		}
+	}
+
+	@Test
+	public void testDepthLimit() {
+		// against the adversary, partitioning alone would take quadratic time; the depth limit
+		// hands the ranges to heapsort after 2 log n levels
+		int n = 20000;
+		Point[] pts = new Point[n];
+		for (int i = 0; i < n; i++)
+			pts[i] = new Point(i, 0);
+		Adversary adversary = new Adversary(n);
+		PointStore store = new PointStore(pts);
+		new QuickSortPoints(store).quickSort(adversary);
+
+		for (int i = 1; i < n; i++)
+			assertTrue("index " + i, adversary.value[store.getX(i - 1)] <= adversary.value[store.getX(i)]);
+		long bound = 8L * n * (32 - Integer.numberOfLeadingZeros(n));
+		assertTrue(adversary.comparisons + " comparisons", adversary.comparisons < bound);
+	}
+}
@@ -0,0 +1,122 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import convexHull.ConvexHull;
+import convexHull.GrahamScan;
+import convexHull.HullOptions;
+import convexHull.JarvisMarch;
+import convexHull.MonotoneChain;
+import convexHull.Point;
+
+public class RemoveDuplicatesTest {
+
+	private static final Point[] SQUARE = { new Point(0, 0), new Point(5, 0), new Point(5, 5), new Point(0, 5) };
+
+	/**
+	 * Builds an array holding count copies of each point, with the copies interleaved so that
+	 * the runs only form once the array is sorted.
+	 */
+	private static Point[] repeat(Point[] distinct, int[] count) {
+		int n = 0;
+		for (int c : count)
+			n += c;
+		Point[] pts = new Point[n];
+		int k = 0;
+		int[] left = count.clone();
+		while (k < n) {
+			for (int i = 0; i < distinct.length; i++) {
+				if (left[i] > 0) {
+					pts[k++] = new Point(distinct[i]);
+					left[i]--;
+				}
+			}
+		}
+		return pts;
+	}
+
+	/**
+	 * Options for both ways removeDuplicates() sorts: with RadixSortPoints (the default) and
+	 * with quicksort followed by the compaction loop.
+	 */
+	private static HullOptions[] sortOptions() {
+		HullOptions radix = new HullOptions();
+		HullOptions quick = new HullOptions();
+		quick.setRadixSort(false);
+		return new HullOptions[] { radix, quick };
+	}
+
+	/**
+	 * Constructs the hull and checks its vertices.
+	 */
+	private static void assertHull(Point[] expected, ConvexHull hull) {
+		hull.constructHull();
+		assertArrayEquals(expected, hull.getHullVertices());
+	}
+
+	@Test
+	public void testLongRuns() {
+		Point[] pts = repeat(SQUARE, new int[] { 1000, 3, 500, 7 });
+
+		for (HullOptions options : sortOptions()) {
+			JarvisMarch march = new JarvisMarch(pts, options);
+			assertEquals(pts.length - 4, march.getDuplicateCount());
+			assertEquals(new Point(5, 0), march.nextVertex(new Point(0, 0)));
+			assertEquals(new Point(0, 0), march.nextVertex(new Point(0, 5)));
+			assertHull(SQUARE, march);
+
+			MonotoneChain chain = new MonotoneChain(pts, options);
+			assertEquals(pts.length - 4, chain.getDuplicateCount());
+			assertHull(SQUARE, chain);
+		}
+	}
+
+	@Test(timeout = 5000)
+	public void testLongRunsGrahamScan() {
+		Point[] pts = repeat(SQUARE, new int[] { 3, 3, 3, 100000 });
+
+		for (HullOptions options : sortOptions()) {
+			GrahamScan graham = new GrahamScan(pts, options);
+			assertEquals(pts.length - 4, graham.getDuplicateCount());
+			assertHull(SQUARE, graham);
+		}
+	}
+
+	@Test
+	public void testAllIdentical() {
+		Point[] pts = repeat(new Point[] { new Point(-3, 7) }, new int[] { 10000 });
+		Point[] expected = { new Point(-3, 7) };
+
+		for (HullOptions options : sortOptions()) {
+			JarvisMarch march = new JarvisMarch(pts, options);
+			assertEquals(9999, march.getDuplicateCount());
+			assertHull(expected, march);
+
+			GrahamScan graham = new GrahamScan(pts, options);
+			assertEquals(9999, graham.getDuplicateCount());
+			assertHull(expected, graham);
+
+			MonotoneChain chain = new MonotoneChain(pts, options);
+			assertEquals(9999, chain.getDuplicateCount());
+			assertHull(expected, chain);
+		}
+	}
+
+	@Test
+	public void testNoDuplicates() {
+		Point[] pts = { new Point(1, 1), new Point(2, 3), new Point(-4, 0), new Point(0, -2) };
+		Point[] expected = { new Point(0, -2), new Point(2, 3), new Point(-4, 0) };
+
+		for (HullOptions options : sortOptions()) {
+			JarvisMarch march = new JarvisMarch(pts, options);
+			assertEquals(0, march.getDuplicateCount());
+			assertHull(expected, march);
+
+			MonotoneChain chain = new MonotoneChain(pts, options);
+			assertEquals(0, chain.getDuplicateCount());
+			assertHull(expected, chain);
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package jUnitTest;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.Point;
+import convexHull.SlidingWindowHull;
+
+public class SlidingWindowHullTest {
+
+	/**
+	 * Hull vertices that MonotoneChain finds over the points of pts that are less than span
+	 * older than newest, and of those the last capacity; empty if there are none.
+	 */
+	private static Point[] expectedHull(List<Long> times, List<Point> pts, long newest, long span, int capacity) {
+		List<Point> live = new ArrayList<Point>();
+		for (int i = 0; i < pts.size(); i++) {
+			if (newest - times.get(i) < span)
+				live.add(pts.get(i));
+		}
+		return HullTestSupport.expectedHull(live.subList(Math.max(0, live.size() - capacity), live.size()));
+	}
+
+	/**
+	 * Adds random points with random gaps between their timestamps, some of them equal, and
+	 * checks the hull after every point.  Every live point satisfies both limits, so the points
+	 * are evicted by span and by capacity in turn.
+	 */
+	private static void randomStream(long seed, int blockSize, long span, int capacity, int range) {
+		Random random = new Random(seed);
+		SlidingWindowHull window = new SlidingWindowHull(blockSize);
+		window.setSpan(span);
+		window.setCapacity(capacity);
+		List<Long> times = new ArrayList<Long>();
+		List<Point> pts = new ArrayList<Point>();
+		long time = 0;
+		for (int step = 0; step < 600; step++) {
+			time += random.nextInt(4) == 0 ? 0 : random.nextInt(3);
+			if (random.nextInt(20) == 0) {
+				// no point, just time passing
+				time += random.nextInt((int) Math.min(span, 20) + 1);
+				window.advanceTo(time);
+			} else {
+				Point p = new Point(random.nextInt(2 * range + 1) - range, random.nextInt(2 * range + 1) - range);
+				window.add(time, p);
+				times.add(time);
+				pts.add(p);
+			}
+			Point[] expected = expectedHull(times, pts, time, span, capacity);
+			assertArrayEquals("step " + step, expected, window.getHullVertices());
+		}
+	}
+
+	@Test
+	public void testEvictionBySpan() {
+		for (int blockSize : new int[] { 1, 2, 3, 8, 64 })
+			randomStream(blockSize, blockSize, 15, Integer.MAX_VALUE, 6);
+	}
+
+	@Test
+	public void testEvictionByCapacity() {
+		for (int blockSize : new int[] { 1, 2, 3, 8, 64 })
+			randomStream(blockSize + 100, blockSize, Long.MAX_VALUE, 20, 6);
+	}
+
+	@Test
+	public void testEvictionBySpanAndCapacity() {
+		for (int blockSize : new int[] { 1, 2, 5, 16 }) {
+			for (int capacity : new int[] { 1, 2, 7, 30 })
+				randomStream(blockSize * 31 + capacity, blockSize, 1 + capacity / 2, capacity, 1 + capacity % 4);
+		}
+	}
+
+	@Test
+	public void testShrinkLimits() {
+		SlidingWindowHull window = new SlidingWindowHull(4);
+		for (int i = 0; i < 20; i++)
+			window.add(i, new Point(i % 5, i * i % 7));
+		assertEquals(20, window.size());
+
+		window.setCapacity(6);
+		assertEquals(6, window.size());
+		window.setSpan(3);
+		assertEquals(3, window.size());
+		Point[] expected = { new Point(2, 2), new Point(3, 2), new Point(4, 4) };
+		assertArrayEquals(expected, window.getHullVertices());
+
+		window.advanceTo(21);
+		assertArrayEquals(new Point[] { new Point(4, 4) }, window.getHullVertices());
+		window.advanceTo(22);
+		assertTrue(window.isEmpty());
+		assertEquals(0, window.getHullVertices().length);
+	}
+
+	@Test
+	public void testSpanIsStrict() {
+		SlidingWindowHull window = new SlidingWindowHull(2);
+		window.setSpan(10);
+		window.add(0, new Point(0, 0));
+		window.add(9, new Point(1, 1));
+		assertEquals(2, window.size());
+		window.advanceTo(10);
+		assertArrayEquals(new Point[] { new Point(1, 1) }, window.getHullVertices());
+	}
+
+	@Test
+	public void testDegenerate() {
+		SlidingWindowHull window = new SlidingWindowHull(3);
+		window.setCapacity(5);
+		Point p = new Point(2, -2);
+		for (int i = 0; i < 10; i++) {
+			window.add(i, p);
+			assertArrayEquals(new Point[] { p }, window.getHullVertices());
+		}
+		window.add(10, new Point(5, -2));
+		assertArrayEquals(new Point[] { p, new Point(5, -2) }, window.getHullVertices());
+
+		// collinear points, of which only the last five are kept
+		for (int i = 0; i < 10; i++)
+			window.add(11 + i, new Point(i, 2 * i));
+		assertArrayEquals(new Point[] { new Point(5, 10), new Point(9, 18) }, window.getHullVertices());
+	}
+
+	@Test
+	public void testTimestampsFarApart() {
+		// newest - time overflows long for these timestamps
+		SlidingWindowHull window = new SlidingWindowHull(2);
+		window.add(Long.MIN_VALUE, new Point(0, 0));
+		window.add(-1, new Point(1, 0));
+		window.add(Long.MAX_VALUE, new Point(0, 1));
+		assertEquals(3, window.size());
+
+		window.setSpan(Long.MAX_VALUE - 1);
+		assertArrayEquals(new Point[] { new Point(0, 1) }, window.getHullVertices());
+
+		SlidingWindowHull limited = new SlidingWindowHull(2);
+		limited.setSpan(5);
+		limited.add(Long.MIN_VALUE, new Point(0, 0));
+		limited.add(Long.MIN_VALUE + 4, new Point(1, 0));
+		assertEquals(2, limited.size());
+		limited.add(Long.MAX_VALUE, new Point(0, 1));
+		assertArrayEquals(new Point[] { new Point(0, 1) }, limited.getHullVertices());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTimestampBeforeNewest() {
+		SlidingWindowHull window = new SlidingWindowHull();
+		window.add(5, new Point(0, 0));
+		window.add(4, new Point(1, 1));
+	}
+}
@@ -0,0 +1,151 @@
+package jUnitTest;
+
+import static jUnitTest.HullTestSupport.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import convexHull.BinaryPointFile;
+import convexHull.Point;
+import convexHull.StreamingHull;
+import convexHull.StreamingHullBuilder;
+
+public class StreamingHullTest {
+
+	/**
+	 * Feeds pts to a builder with the given block size (0 for the default) and checks the hull
+	 * against MonotoneChain every few points, and at the end.
+	 */
+	private static void assertStreamedHull(Point[] pts, int blockSize) {
+		StreamingHullBuilder builder = blockSize == 0 ? new StreamingHullBuilder() : new StreamingHullBuilder(blockSize);
+		for (int i = 0; i < pts.length; i++) {
+			builder.add(pts[i]);
+			if (i % 13 == 0) {
+				Point[] prefix = new Point[i + 1];
+				System.arraycopy(pts, 0, prefix, 0, i + 1);
+				assertArrayEquals("block size " + blockSize + ", " + (i + 1) + " points", expectedHull(prefix),
+						builder.getHull().toPoints());
+			}
+		}
+		assertArrayEquals("block size " + blockSize, expectedHull(pts), builder.getHull().toPoints());
+		assertEquals(pts.length, builder.getPointCount());
+	}
+
+	/**
+	 * Builder whose hull, folded after every point, is the given convex polygon.
+	 */
+	private static StreamingHullBuilder folded(Point... vertices) {
+		StreamingHullBuilder builder = new StreamingHullBuilder(1);
+		for (Point p : vertices)
+			builder.add(p);
+		assertArrayEquals(expectedHull(vertices), builder.getHull().toPoints());
+		return builder;
+	}
+
+	@Test
+	public void testBlockSizes() {
+		Random random = new Random(21);
+		for (int t = 0; t < 200; t++) {
+			Point[] pts = randomPoints(random, 1 + random.nextInt(120), 1 + random.nextInt(t % 2 == 0 ? 6 : 1000));
+			for (int blockSize : new int[] { 1, 2, 7, 0 })
+				assertStreamedHull(pts, blockSize);
+		}
+	}
+
+	@Test
+	public void testDegenerate() {
+		Point[] duplicates = new Point[30];
+		Point[] collinear = new Point[30];
+		for (int i = 0; i < 30; i++) {
+			duplicates[i] = new Point(3, -3);
+			collinear[i] = new Point(i * 7 % 30, 2 * (i * 7 % 30));
+		}
+		for (int blockSize : new int[] { 1, 2, 7, 0 }) {
+			assertStreamedHull(duplicates, blockSize);
+			assertStreamedHull(collinear, blockSize);
+		}
+	}
+
+	@Test
+	public void testCoversFan() {
+		// fan from (0, 0): first edge to (4, 0), last edge to (0, 4)
+		StreamingHullBuilder builder = folded(new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4));
+
+		// vertices
+		assertTrue(builder.covers(0, 0));
+		assertTrue(builder.covers(4, 0));
+		assertTrue(builder.covers(4, 4));
+		assertTrue(builder.covers(0, 4));
+
+		// on the first and the last edge of the fan, and on the rays beyond their ends
+		assertTrue(builder.covers(2, 0));
+		assertTrue(builder.covers(0, 3));
+		assertFalse(builder.covers(5, 0));
+		assertFalse(builder.covers(-1, 0));
+		assertFalse(builder.covers(0, 5));
+		assertFalse(builder.covers(0, -1));
+
+		// on the other edges and an inner ray, and just outside
+		assertTrue(builder.covers(4, 1));
+		assertTrue(builder.covers(3, 4));
+		assertTrue(builder.covers(2, 2));
+		assertTrue(builder.covers(1, 3));
+		assertFalse(builder.covers(2, -1));
+		assertFalse(builder.covers(5, 1));
+		assertFalse(builder.covers(3, 5));
+		assertFalse(builder.covers(-1, 2));
+	}
+
+	@Test
+	public void testCoversNearSlantedEdges() {
+		// a point is covered exactly when adding it leaves the hull unchanged
+		Point[] polygon = { new Point(0, -5), new Point(7, 1), new Point(1, 9), new Point(-6, 2) };
+		StreamingHullBuilder builder = folded(polygon);
+		for (int x = -10; x <= 10; x++) {
+			for (int y = -10; y <= 12; y++) {
+				Point[] pts = Arrays.copyOf(polygon, 5);
+				pts[4] = new Point(x, y);
+				boolean covered = Arrays.equals(expectedHull(polygon), expectedHull(pts));
+				assertEquals(pts[4].toString(), covered, builder.covers(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testCoversNeedsThreeVertices() {
+		StreamingHullBuilder builder = folded(new Point(0, 0), new Point(4, 0), new Point(2, 0));
+		assertFalse(builder.covers(2, 0));
+		assertFalse(builder.covers(0, 0));
+		assertFalse(new StreamingHullBuilder().covers(0, 0));
+	}
+
+	@Test
+	public void testFiles() throws IOException {
+		Random random = new Random(22);
+		Point[] pts = randomPoints(random, 5000, 1000);
+		Point[] expected = expectedHull(pts);
+
+		StringBuilder contents = new StringBuilder();
+		for (Point p : pts)
+			contents.append(p.getX()).append(' ').append(p.getY()).append('\n');
+		File text = writeFile(contents.toString());
+		File binary = File.createTempFile("points", ".bin");
+		binary.deleteOnExit();
+		BinaryPointFile.write(pts, binary.getPath());
+
+		for (File file : new File[] { text, binary }) {
+			StreamingHull byDefault = new StreamingHull(file.getPath());
+			byDefault.constructHull();
+			assertArrayEquals(file.getName(), expected, byDefault.getHullVertices());
+
+			StreamingHull blocked = new StreamingHull(file.getPath(), 7);
+			blocked.constructHull();
+			assertArrayEquals(file.getName(), expected, blocked.getHullVertices());
+		}
+	}
+}